@@ -1,7 +1,10 @@
 package dev.chunkloader;
 
+import dev.chunkloader.api.ChunkLoaderService;
 import dev.chunkloader.commands.ChunkLoaderCommand;
+import dev.chunkloader.managers.ChunkLoaderServiceImpl;
 import dev.chunkloader.managers.TaskManager;
+import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
 
 public class ChunkLoader extends JavaPlugin {
@@ -18,6 +21,8 @@ public class ChunkLoader extends JavaPlugin {
         taskManager.start();
 
         getCommand("chunkloader").setExecutor(new ChunkLoaderCommand(this));
+        getServer().getServicesManager().register(
+            ChunkLoaderService.class, new ChunkLoaderServiceImpl(this), this, ServicePriority.Normal);
 
         getLogger().info("╔══════════════════════════════════╗");
         getLogger().info("║       ChunkLoader v1.0.0         ║");
@@ -28,6 +33,7 @@ public class ChunkLoader extends JavaPlugin {
 
     @Override
     public void onDisable() {
+        getServer().getServicesManager().unregisterAll(this);
         if (taskManager != null) taskManager.shutdown();
         getLogger().info("ChunkLoader disabled. Jobs saved.");
     }
@@ -0,0 +1,31 @@
+package dev.chunkloader.api;
+
+/**
+ * An inclusive rectangle of chunks, in chunk coordinates.
+ */
+public record ChunkArea(int minX, int minZ, int maxX, int maxZ) {
+
+    public ChunkArea {
+        if (minX > maxX) { int t = minX; minX = maxX; maxX = t; }
+        if (minZ > maxZ) { int t = minZ; minZ = maxZ; maxZ = t; }
+    }
+
+    /** Rectangle covering every chunk touched by the given block corners. */
+    public static ChunkArea ofBlocks(int x1, int z1, int x2, int z2) {
+        return new ChunkArea(x1 >> 4, z1 >> 4, x2 >> 4, z2 >> 4);
+    }
+
+    /** Square of {@code radius} chunks around a centre chunk. */
+    public static ChunkArea around(int centerX, int centerZ, int radius) {
+        return new ChunkArea(centerX - radius, centerZ - radius, centerX + radius, centerZ + radius);
+    }
+
+    /** Same packing as Paper's {@code Chunk#getChunkKey()}. */
+    public static long chunkKey(int x, int z) {
+        return (x & 0xffffffffL) | ((z & 0xffffffffL) << 32);
+    }
+
+    public long chunkCount() {
+        return ((long) maxX - minX + 1) * ((long) maxZ - minZ + 1);
+    }
+}
@@ -0,0 +1,55 @@
+package dev.chunkloader.api;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * ChunkLoader's public API, registered with Bukkit's ServicesManager:
+ *
+ * <pre>
+ * ChunkLoaderService cl = Bukkit.getServicesManager().load(ChunkLoaderService.class);
+ * cl.submit("world", List.of(ChunkArea.ofBlocks(-500, -500, 500, 500)), job -> ...)
+ *   .getCompletion().thenAccept(job -> ...);
+ * </pre>
+ *
+ * Every method may be called from any thread; anything that touches job
+ * state is carried out on the main thread. Progress callbacks and lifecycle
+ * events ({@link dev.chunkloader.api.events}) always run on the main thread.
+ * Jobs are only ever exposed as read-only {@link JobSnapshot}s.
+ */
+public interface ChunkLoaderService {
+
+    /**
+     * Generate every chunk covered by {@code areas}. Overlapping areas are
+     * merged so each chunk is generated once, as a single job.
+     *
+     * @param onProgress called every couple of seconds while the job runs, may be null
+     * @throws IllegalArgumentException if the world doesn't exist or the areas are empty
+     */
+    JobHandle submit(String worldName, Collection<ChunkArea> areas, Consumer<JobSnapshot> onProgress);
+
+    /**
+     * Generate an explicit set of chunks, keyed as in {@link ChunkArea#chunkKey(int, int)}.
+     *
+     * @param onProgress called every couple of seconds while the job runs, may be null
+     * @throws IllegalArgumentException if the world doesn't exist or the set is empty
+     */
+    JobHandle submitChunks(String worldName, Collection<Long> chunkKeys, Consumer<JobSnapshot> onProgress);
+
+    default JobHandle submit(String worldName, Collection<ChunkArea> areas) {
+        return submit(worldName, areas, null);
+    }
+
+    Optional<JobSnapshot> getJob(UUID id);
+
+    Collection<JobSnapshot> getActiveJobs();
+
+    /** Toggle pause. Completes with false if the job doesn't exist or already ended. */
+    CompletableFuture<Boolean> togglePause(UUID id);
+
+    /** Completes with false if the job doesn't exist. */
+    CompletableFuture<Boolean> cancel(UUID id);
+}
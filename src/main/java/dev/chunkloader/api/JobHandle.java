@@ -0,0 +1,31 @@
+package dev.chunkloader.api;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * A submitted job. The completion future finishes normally when every chunk
+ * is generated, and exceptionally with a
+ * {@link java.util.concurrent.CancellationException} if the job is cancelled
+ * or the plugin is disabled first — {@code isCancelled()} is then true and
+ * callbacks receive the exception itself, unwrapped. If the world is unloaded
+ * before the job is scheduled it fails with an {@link IllegalStateException}.
+ */
+public final class JobHandle {
+
+    private final UUID id;
+    private final Supplier<JobSnapshot> snapshot;
+    private final CompletableFuture<JobSnapshot> completion;
+
+    public JobHandle(UUID id, Supplier<JobSnapshot> snapshot, CompletableFuture<JobSnapshot> completion) {
+        this.id         = id;
+        this.snapshot   = snapshot;
+        this.completion = completion;
+    }
+
+    public UUID getId()                                    { return id; }
+    /** Current state of the job. */
+    public JobSnapshot getSnapshot()                       { return snapshot.get(); }
+    public CompletableFuture<JobSnapshot> getCompletion()  { return completion; }
+}
@@ -0,0 +1,17 @@
+package dev.chunkloader.api;
+
+import java.util.UUID;
+
+/**
+ * Immutable, point-in-time view of a job for API consumers. Safe to keep
+ * and to read from any thread; ask the service again for fresh numbers.
+ */
+public record JobSnapshot(UUID id, String worldName, Shape shape,
+                          int centerX, int centerZ, int radius,
+                          long generated, long total, long startedAt,
+                          double chunksPerSecond, long etaSeconds,
+                          boolean paused, boolean cancelled, boolean finished) {
+
+    /** Percent done, 0–100. */
+    public double progress() { return total > 0 ? generated * 100.0 / total : 0; }
+}
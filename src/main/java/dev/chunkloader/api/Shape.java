@@ -0,0 +1,7 @@
+package dev.chunkloader.api;
+
+/**
+ * Shape of a generation job. {@link #AREA} jobs cover an arbitrary set of
+ * chunks submitted through {@link ChunkLoaderService}.
+ */
+public enum Shape { SQUARE, CIRCLE, AREA }
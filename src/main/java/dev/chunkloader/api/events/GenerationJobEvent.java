@@ -0,0 +1,15 @@
+package dev.chunkloader.api.events;
+
+import dev.chunkloader.api.JobSnapshot;
+import org.bukkit.event.Event;
+
+/** Base class for ChunkLoader job lifecycle events. Always fired on the main thread. */
+public abstract class GenerationJobEvent extends Event {
+
+    private final JobSnapshot job;
+
+    protected GenerationJobEvent(JobSnapshot job) { this.job = job; }
+
+    /** The job as it was when the event fired. */
+    public JobSnapshot getJob() { return job; }
+}
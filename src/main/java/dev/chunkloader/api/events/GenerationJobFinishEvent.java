@@ -0,0 +1,17 @@
+package dev.chunkloader.api.events;
+
+import dev.chunkloader.api.JobSnapshot;
+import org.bukkit.event.HandlerList;
+
+/** Fired when every chunk of a job has been generated. */
+public class GenerationJobFinishEvent extends GenerationJobEvent {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    public GenerationJobFinishEvent(JobSnapshot job) { super(job); }
+
+    @Override
+    public HandlerList getHandlers() { return HANDLERS; }
+
+    public static HandlerList getHandlerList() { return HANDLERS; }
+}
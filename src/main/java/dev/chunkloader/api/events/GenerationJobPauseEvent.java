@@ -0,0 +1,17 @@
+package dev.chunkloader.api.events;
+
+import dev.chunkloader.api.JobSnapshot;
+import org.bukkit.event.HandlerList;
+
+/** Fired when a job is paused or resumed — check {@link dev.chunkloader.api.JobSnapshot#paused()}. */
+public class GenerationJobPauseEvent extends GenerationJobEvent {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    public GenerationJobPauseEvent(JobSnapshot job) { super(job); }
+
+    @Override
+    public HandlerList getHandlers() { return HANDLERS; }
+
+    public static HandlerList getHandlerList() { return HANDLERS; }
+}
@@ -0,0 +1,17 @@
+package dev.chunkloader.api.events;
+
+import dev.chunkloader.api.JobSnapshot;
+import org.bukkit.event.HandlerList;
+
+/** Fired when a job has been scheduled (new or resumed from disk). */
+public class GenerationJobStartEvent extends GenerationJobEvent {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    public GenerationJobStartEvent(JobSnapshot job) { super(job); }
+
+    @Override
+    public HandlerList getHandlers() { return HANDLERS; }
+
+    public static HandlerList getHandlerList() { return HANDLERS; }
+}
@@ -1,15 +1,25 @@
 package dev.chunkloader.commands;
 
 import dev.chunkloader.ChunkLoader;
+import dev.chunkloader.api.Shape;
+import dev.chunkloader.data.EngineSettings;
 import dev.chunkloader.data.GenerationJob;
-import dev.chunkloader.data.GenerationJob.Shape;
+import dev.chunkloader.data.ThroughputTimeline;
+import dev.chunkloader.data.ThroughputTimeline.Sample;
+import dev.chunkloader.data.WorldStats;
+import dev.chunkloader.managers.ScheduleManager;
+import dev.chunkloader.tasks.CoverageMapRenderer;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.command.*;
 import org.bukkit.entity.Player;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
 
 public class ChunkLoaderCommand implements CommandExecutor, TabCompleter {
 
@@ -17,6 +27,9 @@ public class ChunkLoaderCommand implements CommandExecutor, TabCompleter {
     private static final MiniMessage MM = MiniMessage.miniMessage();
     private static final String HDR = "<dark_gray>◈ <gradient:#7B2FBE:#00C8FF>ChunkLoader</gradient> <dark_gray>│ ";
 
+    // Only one coverage map render at a time — they're disk-heavy
+    private final AtomicBoolean rendering = new AtomicBoolean(false);
+
     public ChunkLoaderCommand(ChunkLoader plugin) { this.plugin = plugin; }
 
     @Override
@@ -57,8 +70,10 @@ public class ChunkLoaderCommand implements CommandExecutor, TabCompleter {
 
                 Shape shape = Shape.SQUARE;
                 if (args.length >= 4) {
-                    try { shape = Shape.valueOf(args[3].toUpperCase()); }
-                    catch (IllegalArgumentException e) {
+                    try {
+                        shape = Shape.valueOf(args[3].toUpperCase());
+                        if (shape == Shape.AREA) throw new IllegalArgumentException(); // API-only
+                    } catch (IllegalArgumentException e) {
                         sender.sendMessage(MM.deserialize(HDR + "<red>Shape must be <white>square</white> or <white>circle</white>."));
                         return true;
                     }
@@ -129,6 +144,7 @@ public class ChunkLoaderCommand implements CommandExecutor, TabCompleter {
             // /cl status [id]
             case "status" -> {
                 Collection<GenerationJob> active = plugin.getTaskManager().getActiveJobs();
+                printProfile(sender);
 
                 if (args.length >= 2) {
                     // Specific job
@@ -141,6 +157,7 @@ public class ChunkLoaderCommand implements CommandExecutor, TabCompleter {
                 } else {
                     sender.sendMessage(MM.deserialize(HDR + "<white>" + active.size() + " active job(s)<dark_gray>:"));
                     for (GenerationJob job : active) printJobStatus(sender, job);
+                    printWorldStats(sender, active);
                 }
             }
 
@@ -161,6 +178,74 @@ public class ChunkLoaderCommand implements CommandExecutor, TabCompleter {
                 }
             }
 
+            // /cl history <id> [csv]
+            case "history" -> {
+                if (args.length < 2) { sender.sendMessage(MM.deserialize(HDR + "<red>Usage: /cl history <id> [csv]")); return true; }
+                UUID id = plugin.getTaskManager().resolveId(args[1]).orElse(null);
+                if (id == null) { sender.sendMessage(MM.deserialize(HDR + "<red>Job not found.")); return true; }
+                boolean csv = args.length >= 3 && args[2].equalsIgnoreCase("csv");
+
+                // History can be large — read (and export) it off the main thread
+                Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                    try {
+                        List<Sample> samples = plugin.getTaskManager().readHistory(id);
+                        if (csv && !samples.isEmpty())
+                            ThroughputTimeline.writeCsv(samples, plugin.getTaskManager().historyCsvFile(id));
+                        Bukkit.getScheduler().runTask(plugin, () -> printHistory(sender, id, samples, csv));
+                    } catch (IOException e) {
+                        Bukkit.getScheduler().runTask(plugin, () ->
+                            sender.sendMessage(MM.deserialize(HDR + "<red>Failed to read history: " + e.getMessage())));
+                    }
+                });
+            }
+
+            // /cl map <world> [scale]
+            case "map" -> {
+                if (args.length < 2) { sender.sendMessage(MM.deserialize(HDR + "<red>Usage: /cl map <world> [1|2|4|8|16|32]")); return true; }
+                World world = Bukkit.getWorld(args[1]);
+                if (world == null) {
+                    sender.sendMessage(MM.deserialize(HDR + "<red>World <white>" + args[1] + "</white> not found."));
+                    return true;
+                }
+
+                CoverageMapRenderer renderer;
+                try {
+                    int scale = args.length >= 3 ? Integer.parseInt(args[2]) : 1;
+                    renderer = new CoverageMapRenderer(world, scale,
+                        plugin.getConfig().getInt("map.max-pixels", 8192), plugin.getTaskManager().getActiveJobs());
+                } catch (IllegalArgumentException e) { // includes NumberFormatException
+                    sender.sendMessage(MM.deserialize(HDR + "<red>Scale must be 1, 2, 4, 8, 16 or 32 chunks per pixel."));
+                    return true;
+                }
+
+                if (!rendering.compareAndSet(false, true)) {
+                    sender.sendMessage(MM.deserialize(HDR + "<red>A map is already being rendered."));
+                    return true;
+                }
+                File out = new File(plugin.getDataFolder(), "maps/" + world.getName() + "-" + System.currentTimeMillis() + ".png");
+                sender.sendMessage(MM.deserialize(HDR + "<gray>Rendering coverage map of <white>" + world.getName() + "<gray>..."));
+
+                Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                    try {
+                        CoverageMapRenderer.Result r = renderer.render(out);
+                        Bukkit.getScheduler().runTask(plugin, () -> {
+                            sender.sendMessage(MM.deserialize(HDR + "<green>Map rendered! <gray>(" + r.width() + "×" + r.height() + " px)"
+                                + (r.clipped() ? " <yellow>clipped to world border / map.max-pixels" : "")));
+                            sender.sendMessage(MM.deserialize(
+                                "  <dark_gray>› <gray>Chunks  <dark_gray>│ <white>" + r.generated() + " <gray>generated in <white>" + r.regions() + " <gray>regions"));
+                            sender.sendMessage(MM.deserialize(
+                                "  <dark_gray>› <gray>File    <dark_gray>│ <white>" + r.file().getPath()));
+                        });
+                    } catch (Exception e) {
+                        plugin.getLogger().log(Level.WARNING, "Failed to render coverage map", e);
+                        Bukkit.getScheduler().runTask(plugin, () ->
+                            sender.sendMessage(MM.deserialize(HDR + "<red>Failed to render map: " + e)));
+                    } finally {
+                        rendering.set(false);
+                    }
+                });
+            }
+
             // /cl reload
             case "reload" -> {
                 if (!sender.hasPermission("chunkloader.admin")) {
@@ -168,6 +253,7 @@ public class ChunkLoaderCommand implements CommandExecutor, TabCompleter {
                     return true;
                 }
                 plugin.reloadConfig();
+                plugin.getTaskManager().getSchedule().reload();
                 sender.sendMessage(MM.deserialize(HDR + "<green>Config reloaded."));
             }
 
@@ -176,6 +262,31 @@ public class ChunkLoaderCommand implements CommandExecutor, TabCompleter {
         return true;
     }
 
+    private void printProfile(CommandSender sender) {
+        ScheduleManager schedule = plugin.getTaskManager().getSchedule();
+        if (!schedule.isEnabled()) return;
+        EngineSettings s = schedule.current();
+        String next = schedule.nextChange()
+            .map(c -> " <dark_gray>│ <gray>→ <white>" + c.profile() + " <gray>in <white>" + formatDuration(c.in().toSeconds()))
+            .orElse("");
+        sender.sendMessage(MM.deserialize(HDR + "<gray>Profile <white>" + s.profile()
+            + (s.paused() ? " <yellow>[PAUSED]" : " <dark_gray>(" + s.maxConcurrent() + " concurrent, every " + s.intervalTicks() + "t)")
+            + next));
+    }
+
+    private void printWorldStats(CommandSender sender, Collection<GenerationJob> active) {
+        Set<String> worlds = new TreeSet<>();
+        for (GenerationJob j : active) worlds.add(j.getWorldName());
+        for (String w : worlds) {
+            WorldStats ws = plugin.getTaskManager().getWorldStats(w);
+            EngineSettings s = plugin.getTaskManager().getSchedule().current(w);
+            sender.sendMessage(MM.deserialize(String.format(
+                "  <dark_gray>› <white>%s <dark_gray>│ <gray>%d/%d in flight <dark_gray>│ <gray>latency <white>%.0fms <gray>avg, <white>%.0fms <gray>max <dark_gray>│ <gray>%d failed <dark_gray>│ <gray>+%d loaded",
+                w, ws.getInFlight(), s.maxConcurrent(), ws.getAvgLatencyMs(), ws.getMaxLatencyMs(), ws.getFailed(),
+                ws.getLoadedAboveBaseline())));
+        }
+    }
+
     private void printJobStatus(CommandSender sender, GenerationJob job) {
         String statusColor = job.isPaused() ? "<yellow>" : "<aqua>";
         sender.sendMessage(MM.deserialize("<dark_gray>  ┌─ <white>" + job.getId().toString().substring(0, 8) + " <dark_gray>│ <white>" + job.getWorldName()));
@@ -200,6 +311,71 @@ public class ChunkLoaderCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(MM.deserialize("<dark_gray>  └────────────────────────────────"));
     }
 
+    private void printHistory(CommandSender sender, UUID id, List<Sample> samples, boolean csv) {
+        if (samples.isEmpty()) {
+            sender.sendMessage(MM.deserialize(HDR + "<gray>No history recorded for this job."));
+            return;
+        }
+
+        double cpsSum = 0, msptSum = 0, skipSum = 0, cpsPeak = 0, msptPeak = 0;
+        int heapPeak = 0;
+        long inFlightSum = 0;
+        for (Sample x : samples) {
+            cpsSum      += x.chunksPerSecond();
+            msptSum     += x.mspt();
+            skipSum     += x.skipRatio();
+            inFlightSum += x.inFlight();
+            cpsPeak  = Math.max(cpsPeak, x.chunksPerSecond());
+            msptPeak = Math.max(msptPeak, x.mspt());
+            heapPeak = Math.max(heapPeak, x.heapUsedMb());
+        }
+        int n = samples.size();
+        long spanSeconds = (samples.get(n - 1).time() - samples.get(0).time()) / 1000;
+
+        sender.sendMessage(MM.deserialize("<dark_gray>  ┌─ <white>" + id.toString().substring(0, 8)
+            + " <dark_gray>│ <white>" + n + " samples <gray>over <white>" + formatDuration(spanSeconds)));
+        sender.sendMessage(MM.deserialize(String.format(
+            "<dark_gray>  │ <gray>Speed     <dark_gray>│ <white>%.1f <gray>avg <dark_gray>/ <white>%.1f <gray>peak c/s", cpsSum / n, cpsPeak)));
+        sender.sendMessage(MM.deserialize("  <dark_gray>│            <aqua>" + sparkline(samples, 30)));
+        sender.sendMessage(MM.deserialize(String.format(
+            "<dark_gray>  │ <gray>MSPT      <dark_gray>│ <white>%.1f <gray>avg <dark_gray>/ <white>%.1f <gray>peak", msptSum / n, msptPeak)));
+        sender.sendMessage(MM.deserialize(String.format(
+            "<dark_gray>  │ <gray>In-flight <dark_gray>│ <white>%.1f <gray>avg", (double) inFlightSum / n)));
+        sender.sendMessage(MM.deserialize(
+            "<dark_gray>  │ <gray>Heap      <dark_gray>│ <white>" + heapPeak + " MB <gray>peak"));
+        sender.sendMessage(MM.deserialize(String.format(
+            "<dark_gray>  │ <gray>Skipped   <dark_gray>│ <white>%.1f%%", skipSum * 100 / n)));
+        if (csv)
+            sender.sendMessage(MM.deserialize("<dark_gray>  │ <gray>Exported  <dark_gray>│ <white>"
+                + plugin.getTaskManager().historyCsvFile(id).getPath()));
+        sender.sendMessage(MM.deserialize("<dark_gray>  └────────────────────────────────"));
+    }
+
+    /** Chunks/s over the whole run squeezed into {@code width} bars. */
+    private String sparkline(List<Sample> samples, int width) {
+        String bars = "▁▂▃▄▅▆▇█";
+        int buckets = Math.min(width, samples.size());
+        double[] avg = new double[buckets];
+        double max = 0;
+        for (int b = 0; b < buckets; b++) {
+            int from = b * samples.size() / buckets;
+            int to   = (b + 1) * samples.size() / buckets;
+            double sum = 0;
+            for (int i = from; i < to; i++) sum += samples.get(i).chunksPerSecond();
+            avg[b] = sum / (to - from);
+            max = Math.max(max, avg[b]);
+        }
+        StringBuilder sb = new StringBuilder();
+        for (double v : avg) sb.append(bars.charAt(max > 0 ? (int) Math.round(v / max * 7) : 0));
+        return sb.toString();
+    }
+
+    private String formatDuration(long s) {
+        if (s < 60)   return s + "s";
+        if (s < 3600) return (s / 60) + "m " + (s % 60) + "s";
+        return (s / 3600) + "h " + ((s % 3600) / 60) + "m";
+    }
+
     private void sendHelp(CommandSender s) {
         s.sendMessage(MM.deserialize("<dark_gray>╔══ <gradient:#7B2FBE:#00C8FF>ChunkLoader</gradient> <dark_gray>══╗"));
         for (String line : new String[]{
@@ -210,6 +386,8 @@ public class ChunkLoaderCommand implements CommandExecutor, TabCompleter {
             "│ <gray>/cl cancel <id>      <dark_gray>– Cancel job",
             "│ <gray>/cl status [id]      <dark_gray>– Progress bar",
             "│ <gray>/cl list             <dark_gray>– All jobs",
+            "│ <gray>/cl history <id> [csv] <dark_gray>– Throughput over time",
+            "│ <gray>/cl map <world> [scale] <dark_gray>– Coverage PNG",
             "│ <gray>/cl reload           <dark_gray>– Reload config",
             "╚════════════════════════════════╝"
         }) s.sendMessage(MM.deserialize("<dark_gray>" + line));
@@ -218,16 +396,23 @@ public class ChunkLoaderCommand implements CommandExecutor, TabCompleter {
     @Override
     public List<String> onTabComplete(CommandSender s, Command c, String a, String[] args) {
         if (args.length == 1)
-            return List.of("start", "pause", "cancel", "status", "list", "reload");
+            return List.of("start", "pause", "cancel", "status", "list", "history", "map", "reload");
         if (args.length == 2) {
             return switch (args[0].toLowerCase()) {
-                case "start" -> Bukkit.getWorlds().stream().map(World::getName).toList();
+                case "start", "map" -> Bukkit.getWorlds().stream().map(World::getName).toList();
                 case "pause", "cancel", "status" -> plugin.getTaskManager().getActiveJobs().stream()
                     .map(j -> j.getId().toString().substring(0, 8))
                     .toList();
+                case "history" -> plugin.getTaskManager().getAllJobs().stream()
+                    .map(j -> j.getId().toString().substring(0, 8))
+                    .toList();
                 default -> List.of();
             };
         }
+        if (args.length == 3 && args[0].equalsIgnoreCase("history"))
+            return List.of("csv");
+        if (args.length == 3 && args[0].equalsIgnoreCase("map"))
+            return List.of("1", "2", "4", "8", "16", "32");
         if (args.length == 4 && args[0].equalsIgnoreCase("start"))
             return List.of("square", "circle");
         return List.of();
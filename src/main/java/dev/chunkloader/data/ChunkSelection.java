@@ -0,0 +1,158 @@
+package dev.chunkloader.data;
+
+import java.util.*;
+
+/**
+ * An arbitrary set of chunks, stored as merged x-intervals per z row.
+ *
+ * Overlapping or adjacent rectangles and single chunks collapse into the
+ * same intervals, so duplicates are never generated twice and even large
+ * areas only cost a few ints per row.
+ */
+public class ChunkSelection {
+
+    // z → sorted, disjoint [minX, maxX, minX, maxX, ...]
+    private final TreeMap<Integer, int[]> rows;
+    private final long total;
+    private final int minX, minZ, maxX, maxZ;
+
+    private ChunkSelection(TreeMap<Integer, int[]> rows) {
+        this.rows = rows;
+        long count = 0;
+        int loX = Integer.MAX_VALUE, hiX = Integer.MIN_VALUE;
+        for (int[] row : rows.values()) {
+            for (int i = 0; i < row.length; i += 2) count += (long) row[i + 1] - row[i] + 1;
+            loX = Math.min(loX, row[0]);
+            hiX = Math.max(hiX, row[row.length - 1]);
+        }
+        this.total = count;
+        this.minX  = rows.isEmpty() ? 0 : loX;
+        this.maxX  = rows.isEmpty() ? 0 : hiX;
+        this.minZ  = rows.isEmpty() ? 0 : rows.firstKey();
+        this.maxZ  = rows.isEmpty() ? 0 : rows.lastKey();
+    }
+
+    public long getTotal() { return total; }
+    public int getMinX()   { return minX; }
+    public int getMinZ()   { return minZ; }
+    public int getMaxX()   { return maxX; }
+    public int getMaxZ()   { return maxZ; }
+
+    public boolean contains(int x, int z) {
+        int[] row = rows.get(z);
+        if (row == null) return false;
+        for (int i = 0; i < row.length; i += 2)
+            if (x >= row[i] && x <= row[i + 1]) return true;
+        return false;
+    }
+
+    /** Row-major iteration (north → south, west → east). */
+    public Iterator<long[]> iterator() {
+        return new Iterator<>() {
+            private final Iterator<Map.Entry<Integer, int[]>> rowIt = rows.entrySet().iterator();
+            private int z;
+            private int[] row = new int[0];
+            private int interval = 0;
+            private int x = 0;
+
+            @Override
+            public boolean hasNext() {
+                while (interval >= row.length) {
+                    if (!rowIt.hasNext()) return false;
+                    Map.Entry<Integer, int[]> e = rowIt.next();
+                    z = e.getKey();
+                    row = e.getValue();
+                    interval = 0;
+                    x = row[0];
+                }
+                return true;
+            }
+
+            @Override
+            public long[] next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                long[] out = {x, z};
+                if (x == row[interval + 1]) {
+                    interval += 2;
+                    if (interval < row.length) x = row[interval];
+                } else {
+                    x++;
+                }
+                return out;
+            }
+        };
+    }
+
+    // ── Persistence ───────────────────────────────────────────────────────────
+
+    /** One string per row: {@code "z:x1/x2,x3/x4"} (slashes so negative coords stay readable). */
+    public List<String> toRows() {
+        List<String> out = new ArrayList<>(rows.size());
+        for (Map.Entry<Integer, int[]> e : rows.entrySet()) {
+            StringBuilder sb = new StringBuilder().append(e.getKey()).append(':');
+            int[] row = e.getValue();
+            for (int i = 0; i < row.length; i += 2) {
+                if (i > 0) sb.append(',');
+                sb.append(row[i]).append('/').append(row[i + 1]);
+            }
+            out.add(sb.toString());
+        }
+        return out;
+    }
+
+    public static ChunkSelection fromRows(List<String> lines) {
+        Builder b = new Builder();
+        for (String line : lines) {
+            int colon = line.indexOf(':');
+            int z = Integer.parseInt(line.substring(0, colon));
+            for (String range : line.substring(colon + 1).split(",")) {
+                int slash = range.indexOf('/');
+                b.addRow(z, Integer.parseInt(range.substring(0, slash)), Integer.parseInt(range.substring(slash + 1)));
+            }
+        }
+        return b.build();
+    }
+
+    // ── Builder ───────────────────────────────────────────────────────────────
+
+    public static class Builder {
+
+        private final Map<Integer, List<int[]>> raw = new HashMap<>();
+
+        /** Add an inclusive rectangle in chunk coordinates. */
+        public Builder addRect(int x1, int z1, int x2, int z2) {
+            int lo = Math.min(x1, x2), hi = Math.max(x1, x2);
+            for (int z = Math.min(z1, z2); z <= Math.max(z1, z2); z++) addRow(z, lo, hi);
+            return this;
+        }
+
+        public Builder addChunk(int x, int z) { return addRow(z, x, x); }
+
+        private Builder addRow(int z, int lo, int hi) {
+            raw.computeIfAbsent(z, k -> new ArrayList<>()).add(new int[]{lo, hi});
+            return this;
+        }
+
+        public ChunkSelection build() {
+            TreeMap<Integer, int[]> rows = new TreeMap<>();
+            for (Map.Entry<Integer, List<int[]>> e : raw.entrySet()) {
+                List<int[]> ranges = e.getValue();
+                ranges.sort(Comparator.comparingInt(r -> r[0]));
+
+                int[] merged = new int[ranges.size() * 2];
+                int n = 0;
+                for (int[] r : ranges) {
+                    // Merge overlapping and touching intervals
+                    if (n > 0 && (long) r[0] <= (long) merged[n - 1] + 1) {
+                        merged[n - 1] = Math.max(merged[n - 1], r[1]);
+                    } else {
+                        merged[n++] = r[0];
+                        merged[n++] = r[1];
+                    }
+                }
+                rows.put(e.getKey(), Arrays.copyOf(merged, n));
+            }
+            return new ChunkSelection(rows);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package dev.chunkloader.data;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.Locale;
+
+/**
+ * The knobs the generation engine re-reads every tick, so they can change
+ * while jobs are running. Resolved per world.
+ *
+ * @param profile        name of the schedule profile these came from
+ * @param maxConcurrent  max in-flight async chunk requests in the world, shared by its jobs
+ * @param intervalTicks  ticks between dispatch rounds
+ * @param tickBudgetMs   max time per job dispatch round, 0 = unlimited
+ * @param paused         dispatch nothing at all (e.g. during events)
+ * @param iterationOrder order radius jobs walk their chunks in (read when a job's task starts)
+ * @param unloadPolicy   what happens to a chunk once it is generated
+ */
+public record EngineSettings(String profile, int maxConcurrent, int intervalTicks,
+                             double tickBudgetMs, boolean paused,
+                             IterationOrder iterationOrder, UnloadPolicy unloadPolicy) {
+
+    /** SPIRAL = centre outward (Chunky-style), ROWS = north → south row by row. */
+    public enum IterationOrder { SPIRAL, ROWS }
+
+    /**
+     * PACED = released to Paper's unload queue at a fixed rate per world (see save-backlog),
+     * IMMEDIATE = handed straight to Paper's unload queue.
+     */
+    public enum UnloadPolicy { PACED, IMMEDIATE }
+
+    /** Read settings from {@code sec}, falling back to {@code base} for anything unset. */
+    public static EngineSettings read(String profile, ConfigurationSection sec, EngineSettings base) {
+        return new EngineSettings(
+            profile,
+            Math.max(1, sec.getInt("max-concurrent-chunks", base.maxConcurrent())),
+            Math.max(1, sec.getInt("task-interval-ticks", base.intervalTicks())),
+            Math.max(0, sec.getDouble("tick-budget-ms", base.tickBudgetMs())),
+            sec.getBoolean("paused", base.paused()),
+            IterationOrder.valueOf(sec.getString("iteration-order", base.iterationOrder().name()).toUpperCase(Locale.ROOT)),
+            UnloadPolicy.valueOf(sec.getString("unload-policy", base.unloadPolicy().name()).toUpperCase(Locale.ROOT))
+        );
+    }
+
+    /** Built-in defaults, used when a key is missing from config.yml. */
+    public static EngineSettings defaults() {
+        return new EngineSettings("default", 8, 1, 0, false, IterationOrder.SPIRAL, UnloadPolicy.PACED);
+    }
+}
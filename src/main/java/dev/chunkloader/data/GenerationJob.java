@@ -1,5 +1,6 @@
 package dev.chunkloader.data;
 
+import dev.chunkloader.api.Shape;
 import org.bukkit.World;
 
 import java.util.UUID;
@@ -7,18 +8,20 @@ import java.util.concurrent.atomic.AtomicLong;
 
 public class GenerationJob {
 
-    public enum Shape { SQUARE, CIRCLE }
-
     private final UUID id;
     private final String worldName;
     private final int centerX;   // chunk coordinates
     private final int centerZ;
     private final int radius;    // in chunks
     private final Shape shape;
+    private final ChunkSelection selection; // only for AREA jobs
 
-    private boolean paused    = false;
-    private boolean cancelled = false;
-    private boolean finished  = false;
+    // Volatile: the API reads these off the main thread
+    private volatile boolean paused    = false;
+    private volatile boolean cancelled = false;
+    private volatile boolean finished  = false;
+    // Held by the active schedule profile — counts as paused time, but isn't a user pause
+    private volatile boolean held      = false;
 
     private AtomicLong generated = new AtomicLong(0);
     private final long total;
@@ -33,6 +36,7 @@ public class GenerationJob {
         this.centerZ   = centerZ;
         this.radius    = radius;
         this.shape     = shape;
+        this.selection = null;
         this.startedAt = System.currentTimeMillis();
 
         // Calculate total chunks for this shape
@@ -48,15 +52,31 @@ public class GenerationJob {
         }
     }
 
+    public GenerationJob(String worldName, ChunkSelection selection) {
+        this.id        = UUID.randomUUID();
+        this.worldName = worldName;
+        // Centre/radius of the bounding box — informational only for AREA jobs
+        this.centerX   = (selection.getMinX() + selection.getMaxX()) / 2;
+        this.centerZ   = (selection.getMinZ() + selection.getMaxZ()) / 2;
+        this.radius    = Math.max(selection.getMaxX() - selection.getMinX(),
+                                  selection.getMaxZ() - selection.getMinZ()) / 2;
+        this.shape     = Shape.AREA;
+        this.selection = selection;
+        this.total     = selection.getTotal();
+        this.startedAt = System.currentTimeMillis();
+    }
+
     // For loading from disk
     public GenerationJob(UUID id, String worldName, int centerX, int centerZ,
-                         int radius, Shape shape, long generated, long total, long startedAt) {
+                         int radius, Shape shape, ChunkSelection selection,
+                         long generated, long total, long startedAt) {
         this.id        = id;
         this.worldName = worldName;
         this.centerX   = centerX;
         this.centerZ   = centerZ;
         this.radius    = radius;
         this.shape     = shape;
+        this.selection = selection;
         this.generated = new AtomicLong(generated);
         this.total     = total;
         this.startedAt = startedAt;
@@ -67,8 +87,9 @@ public class GenerationJob {
     public double getProgress() { return total > 0 ? (generated.get() * 100.0 / total) : 0; }
 
     public long getElapsedSeconds() {
-        long elapsed = System.currentTimeMillis() - startedAt - totalPausedMs;
-        return elapsed / 1000;
+        long now = System.currentTimeMillis();
+        long pausedMs = totalPausedMs + (isHalted() ? now - pausedAt : 0);
+        return (now - startedAt - pausedMs) / 1000;
     }
 
     public double getChunksPerSecond() {
@@ -89,6 +110,7 @@ public class GenerationJob {
     public int getCenterZ()      { return centerZ; }
     public int getRadius()       { return radius; }
     public Shape getShape()      { return shape; }
+    public ChunkSelection getSelection() { return selection; }
     public long getGenerated()   { return generated.get(); }
     public long getTotal()       { return total; }
     public long getStartedAt()   { return startedAt; }
@@ -97,13 +119,28 @@ public class GenerationJob {
     public boolean isFinished()  { return finished; }
 
     public void setPaused(boolean p) {
-        if (p && !paused) pausedAt = System.currentTimeMillis();
-        if (!p && paused) totalPausedMs += System.currentTimeMillis() - pausedAt;
+        boolean was = isHalted();
         this.paused = p;
+        trackPause(was);
+    }
+    /** Mark the job as held by a paused schedule profile, so the time doesn't count toward c/s. */
+    public void setHeld(boolean h) {
+        if (h == held) return;
+        boolean was = isHalted();
+        this.held = h;
+        trackPause(was);
     }
     public void setCancelled(boolean c) { this.cancelled = c; }
     public void setFinished(boolean f)  { this.finished  = f; }
 
+    private boolean isHalted() { return paused || held; }
+
+    private void trackPause(boolean wasHalted) {
+        boolean halted = isHalted();
+        if (halted && !wasHalted) pausedAt = System.currentTimeMillis();
+        if (!halted && wasHalted) totalPausedMs += System.currentTimeMillis() - pausedAt;
+    }
+
     public String formatEta() {
         long s = getEtaSeconds();
         if (s < 0)    return "calculating...";
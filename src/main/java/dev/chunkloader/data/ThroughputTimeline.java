@@ -0,0 +1,165 @@
+package dev.chunkloader.data;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+/**
+ * Compact per-job throughput history.
+ *
+ * Samples are fixed-size binary records held in a small ring buffer and
+ * appended to {@code history/<job-id>.bin} whenever the buffer fills up,
+ * so memory stays constant no matter how long a job runs. Appends happen
+ * on an io executor; the main thread only ever touches the buffer.
+ */
+public class ThroughputTimeline {
+
+    /** One sample: 8 + 4 + 4 + 4 + 4 + 4 = 28 bytes on disk. */
+    public record Sample(long time, float chunksPerSecond, int inFlight,
+                         float mspt, int heapUsedMb, float skipRatio) {}
+
+    private static final int RECORD_BYTES = 28;
+
+    private final File file;
+    private final Sample[] buffer;
+    private int size = 0;
+
+    // Spills run on this executor, chained so they hit the file in order
+    private final Executor io;
+    private final Logger log;
+    private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+    // Records on disk or queued for writing — readers only trust this many
+    private long spilled;
+    private boolean discarded = false;
+    // A crash can leave a torn record at the end — cut it off before appending (io thread only)
+    private boolean trimmed = false;
+
+    /**
+     * @param io executor for file writes — never the main thread
+     */
+    public ThroughputTimeline(File file, int bufferSize, Executor io, Logger log) {
+        this.file    = file;
+        this.buffer  = new Sample[Math.max(1, bufferSize)];
+        this.io      = io;
+        this.log     = log;
+        this.spilled = file.length() / RECORD_BYTES;
+    }
+
+    /** Buffer a sample; a full buffer is handed to the io executor. Never blocks on disk. */
+    public synchronized void record(Sample sample) {
+        buffer[size++] = sample;
+        if (size == buffer.length) flush();
+    }
+
+    /** Queue everything buffered for appending to disk. */
+    public synchronized CompletableFuture<Void> flush() {
+        if (size == 0 || discarded) return tail;
+        Sample[] batch = Arrays.copyOf(buffer, size);
+        spilled += size;
+        size = 0;
+        tail = tail.thenRunAsync(() -> append(batch), io).exceptionally(ex -> {
+            log.warning("Failed to write throughput history " + file.getName() + ": " + ex.getMessage());
+            return null;
+        });
+        return tail;
+    }
+
+    /** Stop recording and delete the history file once pending writes are done. */
+    public synchronized void discard() {
+        discarded = true;
+        size = 0;
+        tail = tail.thenRunAsync(file::delete, io);
+    }
+
+    /**
+     * All samples, oldest first — spilled ones from disk followed by the
+     * buffer. Waits for queued writes, so call it off the main thread.
+     */
+    public List<Sample> readAll() throws IOException {
+        List<Sample> buffered;
+        long onDisk;
+        CompletableFuture<Void> pending;
+        synchronized (this) {
+            buffered = new ArrayList<>(Arrays.asList(buffer).subList(0, size));
+            onDisk   = spilled;
+            pending  = tail;
+        }
+        // Spills queued after this point aren't in the snapshot — reading only
+        // the first onDisk records keeps them from showing up twice
+        pending.join();
+        List<Sample> out = readFile(file, onDisk);
+        out.addAll(buffered);
+        return out;
+    }
+
+    private void append(Sample[] batch) {
+        file.getParentFile().mkdirs();
+        if (!trimmed) {
+            trimTornRecord();
+            trimmed = true;
+        }
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(file, true)))) {
+            for (Sample s : batch) write(out, s);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Truncate the file to whole records, so new appends stay aligned. */
+    private void trimTornRecord() {
+        long whole = file.length() / RECORD_BYTES * RECORD_BYTES;
+        if (file.length() == whole) return;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(whole);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Read a spilled history file (e.g. for a job that is no longer running). */
+    public static List<Sample> readFile(File file) throws IOException {
+        return readFile(file, Long.MAX_VALUE);
+    }
+
+    private static List<Sample> readFile(File file, long maxRecords) throws IOException {
+        List<Sample> out = new ArrayList<>();
+        if (!file.exists()) return out;
+        // Ignore a torn trailing record from a crash mid-write
+        long count = Math.min(maxRecords, file.length() / RECORD_BYTES);
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file)))) {
+            for (long i = 0; i < count; i++) {
+                out.add(new Sample(in.readLong(), in.readFloat(), in.readInt(),
+                                   in.readFloat(), in.readInt(), in.readFloat()));
+            }
+        }
+        return out;
+    }
+
+    public static void writeCsv(List<Sample> samples, File csv) throws IOException {
+        csv.getParentFile().mkdirs();
+        try (PrintWriter w = new PrintWriter(Files.newBufferedWriter(csv.toPath()))) {
+            w.println("time,chunks_per_second,in_flight,mspt,heap_used_mb,skip_ratio");
+            for (Sample s : samples) {
+                w.printf(Locale.ROOT, "%d,%.2f,%d,%.2f,%d,%.3f%n",
+                    s.time(), s.chunksPerSecond(), s.inFlight(), s.mspt(), s.heapUsedMb(), s.skipRatio());
+            }
+        }
+    }
+
+    private static void write(DataOutputStream out, Sample s) throws IOException {
+        out.writeLong(s.time());
+        out.writeFloat(s.chunksPerSecond());
+        out.writeInt(s.inFlight());
+        out.writeFloat(s.mspt());
+        out.writeInt(s.heapUsedMb());
+        out.writeFloat(s.skipRatio());
+    }
+}
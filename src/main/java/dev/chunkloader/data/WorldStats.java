@@ -0,0 +1,74 @@
+package dev.chunkloader.data;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-world request accounting, shared by every job in the world: how many
+ * async chunk requests are in flight, how long they take to come back, which
+ * generated chunks are still waiting to be released, and how far the world's
+ * loaded-chunk count has climbed since generation started.
+ */
+public class WorldStats {
+
+    // Weight of the newest sample in the moving latency average
+    private static final double EWMA_ALPHA = 0.05;
+
+    private final String worldName;
+    private final AtomicInteger inFlight  = new AtomicInteger(0);
+    private final AtomicLong    completed = new AtomicLong(0);
+    private final AtomicLong    failed    = new AtomicLong(0);
+    private volatile double avgLatencyMs = 0;
+    private volatile double maxLatencyMs = 0;
+
+    // Generated chunks not yet handed to Paper's unload queue (main thread only)
+    private final ArrayDeque<long[]> pendingUnloads = new ArrayDeque<>();
+
+    // Sampled world.getChunkCount(), and its value when the world's first job started
+    private volatile int loadedChunks   = 0;
+    private volatile int loadedBaseline = 0;
+    private volatile double lastSaveMs  = 0;
+
+    public WorldStats(String worldName) { this.worldName = worldName; }
+
+    public void onDispatch() { inFlight.incrementAndGet(); }
+
+    /** Completions arrive on the main thread, so the averages need no CAS loop. */
+    public void onComplete(long latencyNanos) {
+        inFlight.decrementAndGet();
+        double ms = latencyNanos / 1_000_000.0;
+        avgLatencyMs = completed.getAndIncrement() == 0 ? ms : avgLatencyMs + EWMA_ALPHA * (ms - avgLatencyMs);
+        if (ms > maxLatencyMs) maxLatencyMs = ms;
+    }
+
+    public void onFailed() {
+        inFlight.decrementAndGet();
+        failed.incrementAndGet();
+    }
+
+    public void queueUnload(int x, int z) { pendingUnloads.add(new long[]{x, z}); }
+    public long[] pollUnload()            { return pendingUnloads.poll(); }
+    public int getPendingUnloads()        { return pendingUnloads.size(); }
+
+    /** Record the loaded-chunk count that player and spawn chunks account for. */
+    public void resetBaseline(int loaded) {
+        loadedBaseline = loaded;
+        loadedChunks   = loaded;
+    }
+
+    public void sampleLoaded(int loaded)   { loadedChunks = loaded; }
+    public void onSaved(long nanos)        { lastSaveMs = nanos / 1_000_000.0; }
+
+    /** Chunks loaded in the world beyond the baseline — what generation has added. */
+    public int getLoadedAboveBaseline() { return Math.max(0, loadedChunks - loadedBaseline); }
+
+    public String getWorldName()    { return worldName; }
+    public int getInFlight()        { return inFlight.get(); }
+    public long getCompleted()      { return completed.get(); }
+    public long getFailed()         { return failed.get(); }
+    public double getAvgLatencyMs() { return avgLatencyMs; }
+    public double getMaxLatencyMs() { return maxLatencyMs; }
+    public int getLoadedChunks()    { return loadedChunks; }
+    public double getLastSaveMs()   { return lastSaveMs; }
+}
@@ -0,0 +1,94 @@
+package dev.chunkloader.managers;
+
+import dev.chunkloader.ChunkLoader;
+import dev.chunkloader.api.ChunkArea;
+import dev.chunkloader.api.ChunkLoaderService;
+import dev.chunkloader.api.JobHandle;
+import dev.chunkloader.api.JobSnapshot;
+import dev.chunkloader.data.ChunkSelection;
+import dev.chunkloader.data.GenerationJob;
+import org.bukkit.Bukkit;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * {@link ChunkLoaderService} backed by the plugin's {@link TaskManager}.
+ */
+public class ChunkLoaderServiceImpl implements ChunkLoaderService {
+
+    private final ChunkLoader plugin;
+
+    public ChunkLoaderServiceImpl(ChunkLoader plugin) { this.plugin = plugin; }
+
+    @Override
+    public JobHandle submit(String worldName, Collection<ChunkArea> areas, Consumer<JobSnapshot> onProgress) {
+        ChunkSelection.Builder b = new ChunkSelection.Builder();
+        for (ChunkArea a : areas) b.addRect(a.minX(), a.minZ(), a.maxX(), a.maxZ());
+        return schedule(worldName, b.build(), onProgress);
+    }
+
+    @Override
+    public JobHandle submitChunks(String worldName, Collection<Long> chunkKeys, Consumer<JobSnapshot> onProgress) {
+        ChunkSelection.Builder b = new ChunkSelection.Builder();
+        for (long key : chunkKeys) b.addChunk((int) key, (int) (key >> 32));
+        return schedule(worldName, b.build(), onProgress);
+    }
+
+    private JobHandle schedule(String worldName, ChunkSelection selection, Consumer<JobSnapshot> onProgress) {
+        if (Bukkit.getWorld(worldName) == null)
+            throw new IllegalArgumentException("World " + worldName + " not found");
+        if (selection.getTotal() == 0)
+            throw new IllegalArgumentException("Nothing to generate");
+
+        // Merging happened on the caller's thread; only scheduling needs the main thread
+        GenerationJob job = new GenerationJob(worldName, selection);
+        // Completed directly by TaskManager — a derived future (thenApply) would wrap
+        // a cancellation in a CompletionException
+        CompletableFuture<JobSnapshot> completion = new CompletableFuture<>();
+        Consumer<GenerationJob> progress = onProgress == null ? null : j -> onProgress.accept(Snapshots.of(j));
+        onMain(() -> {
+            if (!plugin.getTaskManager().submitJob(job, completion, progress))
+                completion.completeExceptionally(new IllegalStateException("World " + worldName + " was unloaded"));
+            return null;
+        });
+
+        return new JobHandle(job.getId(), () -> Snapshots.of(job), completion);
+    }
+
+    @Override
+    public Optional<JobSnapshot> getJob(UUID id) {
+        return Optional.ofNullable(plugin.getTaskManager().getJob(id)).map(Snapshots::of);
+    }
+
+    @Override
+    public Collection<JobSnapshot> getActiveJobs() {
+        return plugin.getTaskManager().getActiveJobs().stream().map(Snapshots::of).toList();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> togglePause(UUID id) {
+        return onMain(() -> plugin.getTaskManager().pauseJob(id));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> cancel(UUID id) {
+        return onMain(() -> plugin.getTaskManager().cancelJob(id));
+    }
+
+    /** Run on the main thread — job state changes fire synchronous Bukkit events. */
+    private <T> CompletableFuture<T> onMain(Supplier<T> action) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable run = () -> {
+            try { result.complete(action.get()); }
+            catch (Throwable t) { result.completeExceptionally(t); }
+        };
+        if (Bukkit.isPrimaryThread()) run.run();
+        else Bukkit.getScheduler().runTask(plugin, run);
+        return result;
+    }
+}
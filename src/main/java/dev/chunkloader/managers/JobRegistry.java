@@ -0,0 +1,55 @@
+package dev.chunkloader.managers;
+
+import dev.chunkloader.data.GenerationJob;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Lock-free index of every known job.
+ *
+ * Active jobs are kept in their own map so status, tab completion and the
+ * progress broadcast never have to filter the full history, and a sorted
+ * id index makes short-id lookups a single ceiling search.
+ */
+public class JobRegistry {
+
+    private final Map<UUID, GenerationJob> all    = new ConcurrentHashMap<>();
+    private final Map<UUID, GenerationJob> active = new ConcurrentHashMap<>();
+    // Lower-case id string → id, for prefix lookups
+    private final NavigableMap<String, UUID> byIdString = new ConcurrentSkipListMap<>();
+
+    private final Collection<GenerationJob> allView    = Collections.unmodifiableCollection(all.values());
+    private final Collection<GenerationJob> activeView = Collections.unmodifiableCollection(active.values());
+
+    public void add(GenerationJob job) {
+        all.put(job.getId(), job);
+        byIdString.put(job.getId().toString(), job.getId());
+        if (!job.isFinished() && !job.isCancelled()) active.put(job.getId(), job);
+    }
+
+    public void remove(UUID id) {
+        all.remove(id);
+        active.remove(id);
+        byIdString.remove(id.toString());
+    }
+
+    /** Call after a job is finished or cancelled. */
+    public void markInactive(UUID id) { active.remove(id); }
+
+    public GenerationJob get(UUID id) { return all.get(id); }
+
+    /** Live, read-only view. */
+    public Collection<GenerationJob> getAll()    { return allView; }
+    /** Live, read-only view of jobs that are neither finished nor cancelled. */
+    public Collection<GenerationJob> getActive() { return activeView; }
+    public int activeCount()                     { return active.size(); }
+
+    /** First job (in id order) whose id starts with {@code prefix}. */
+    public Optional<UUID> findByPrefix(String prefix) {
+        String p = prefix.toLowerCase(Locale.ROOT);
+        Map.Entry<String, UUID> e = byIdString.ceilingEntry(p);
+        return e != null && e.getKey().startsWith(p) ? Optional.of(e.getValue()) : Optional.empty();
+    }
+}
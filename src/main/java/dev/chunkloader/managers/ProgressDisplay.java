@@ -0,0 +1,160 @@
+package dev.chunkloader.managers;
+
+import dev.chunkloader.ChunkLoader;
+import dev.chunkloader.data.GenerationJob;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * Optional live progress for players with chunkloader.notify, shown as one
+ * boss bar per job or a single action bar line.
+ *
+ * Text is only re-rendered when the formatted values actually change, and
+ * the same Component / BossBar instance is shared by every viewer.
+ */
+public class ProgressDisplay {
+
+    public enum Mode { NONE, BOSSBAR, ACTIONBAR }
+
+    private static final MiniMessage MM = MiniMessage.miniMessage();
+    // Action bars fade after ~3s, so unchanged text still needs resending
+    private static final long ACTIONBAR_RESEND_MS = 2000;
+
+    private final ChunkLoader plugin;
+    private final TaskManager taskManager;
+
+    private final Map<UUID, BossBar> bars     = new HashMap<>();
+    private final Map<UUID, String>  barTexts = new HashMap<>();
+    // Players currently shown the bars, so ones who lose the permission get them hidden
+    private final Set<UUID> barViewers = new HashSet<>();
+
+    private String actionBarText = "";
+    private Component actionBar  = Component.empty();
+    private long actionBarSentAt = 0;
+
+    private BukkitTask task;
+
+    public ProgressDisplay(ChunkLoader plugin, TaskManager taskManager) {
+        this.plugin      = plugin;
+        this.taskManager = taskManager;
+    }
+
+    public void start() {
+        Mode mode;
+        try { mode = Mode.valueOf(plugin.getConfig().getString("progress-display", "none").toUpperCase()); }
+        catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Unknown progress-display mode, using none.");
+            return;
+        }
+        if (mode == Mode.NONE) return;
+
+        int ticks = Math.max(1, plugin.getConfig().getInt("progress-display-ticks", 20));
+        task = Bukkit.getScheduler().runTaskTimer(plugin,
+            mode == Mode.BOSSBAR ? this::updateBossBars : this::updateActionBar, ticks, ticks);
+    }
+
+    public void stop() {
+        if (task != null) task.cancel();
+        task = null;
+        for (UUID id : new ArrayList<>(bars.keySet())) removeBar(id);
+        barViewers.clear();
+    }
+
+    // ── Boss bars ─────────────────────────────────────────────────────────────
+
+    private void updateBossBars() {
+        Collection<GenerationJob> active = taskManager.getActiveJobs();
+        List<Player> viewers = viewers();
+
+        Set<UUID> seen = new HashSet<>();
+        for (GenerationJob job : active) {
+            seen.add(job.getId());
+            String text  = format(job);
+            float  prog  = (float) Math.min(1.0, Math.max(0.0, job.getProgress() / 100.0));
+            BossBar.Color color = job.isPaused() ? BossBar.Color.YELLOW : BossBar.Color.PURPLE;
+
+            BossBar bar = bars.get(job.getId());
+            if (bar == null) {
+                bar = BossBar.bossBar(MM.deserialize(text), prog, color, BossBar.Overlay.PROGRESS);
+                bars.put(job.getId(), bar);
+                barTexts.put(job.getId(), text);
+            } else {
+                if (!text.equals(barTexts.get(job.getId()))) {
+                    bar.name(MM.deserialize(text));
+                    barTexts.put(job.getId(), text);
+                }
+                if (bar.progress() != prog) bar.progress(prog);
+                bar.color(color);
+            }
+            // Idempotent — only newly eligible players get a packet
+            for (Player p : viewers) p.showBossBar(bar);
+        }
+
+        for (UUID id : new ArrayList<>(bars.keySet()))
+            if (!seen.contains(id)) removeBar(id);
+
+        // Hide every bar from players who were viewers last round but aren't now
+        Set<UUID> current = new HashSet<>();
+        for (Player p : viewers) current.add(p.getUniqueId());
+        for (UUID id : barViewers) {
+            if (current.contains(id)) continue;
+            Player p = Bukkit.getPlayer(id);
+            if (p == null) continue;
+            for (BossBar bar : bars.values()) p.hideBossBar(bar);
+        }
+        barViewers.clear();
+        barViewers.addAll(current);
+    }
+
+    private void removeBar(UUID id) {
+        BossBar bar = bars.remove(id);
+        barTexts.remove(id);
+        if (bar == null) return;
+        for (Player p : Bukkit.getOnlinePlayers()) p.hideBossBar(bar);
+    }
+
+    // ── Action bar ────────────────────────────────────────────────────────────
+
+    private void updateActionBar() {
+        Collection<GenerationJob> active = taskManager.getActiveJobs();
+        if (active.isEmpty()) {
+            actionBarText = "";
+            return;
+        }
+
+        StringJoiner line = new StringJoiner(" <dark_gray>│ ");
+        for (GenerationJob job : active) line.add(format(job));
+        String text = line.toString();
+
+        long now = System.currentTimeMillis();
+        boolean changed = !text.equals(actionBarText);
+        if (!changed && now - actionBarSentAt < ACTIONBAR_RESEND_MS) return;
+        if (changed) {
+            actionBarText = text;
+            actionBar = MM.deserialize(text);
+        }
+        actionBarSentAt = now;
+        for (Player p : viewers()) p.sendActionBar(actionBar);
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private List<Player> viewers() {
+        List<Player> out = new ArrayList<>();
+        for (Player p : Bukkit.getOnlinePlayers())
+            if (p.hasPermission("chunkloader.notify")) out.add(p);
+        return out;
+    }
+
+    private static String format(GenerationJob job) {
+        return String.format("<white>%s <aqua>%.1f%% <gray>%.0f c/s <dark_gray>· <gray>ETA <white>%s%s",
+            job.getWorldName(), job.getProgress(), job.getChunksPerSecond(), job.formatEta(),
+            job.isPaused() ? " <yellow>[PAUSED]" : "");
+    }
+}
@@ -0,0 +1,193 @@
+package dev.chunkloader.managers;
+
+import dev.chunkloader.ChunkLoader;
+import dev.chunkloader.data.EngineSettings;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.time.*;
+import java.util.*;
+import java.util.logging.Level;
+
+/**
+ * Time-of-day and per-world engine profiles.
+ *
+ * Each window under {@code schedule.profiles} names a time range (optionally
+ * limited to some weekdays) and the engine settings to use inside it. The
+ * first matching window wins; outside every window the top-level config
+ * keys apply. Running jobs pick up a switch on their next tick — nothing is
+ * restarted.
+ *
+ * Settings are resolved per world, most specific last:
+ * top-level keys → {@code worlds.<world>} → active profile → the profile's
+ * own {@code worlds.<world>}. Static per-world keys are only a base, so a
+ * profile (e.g. a paused event window) always applies to every world.
+ */
+public class ScheduleManager {
+
+    /** One profile's settings, globally and for each configured world. */
+    private record Profile(EngineSettings global, Map<String, EngineSettings> worlds) {
+        EngineSettings forWorld(String world) { return worlds.getOrDefault(world, global); }
+    }
+
+    private record Window(Profile settings, Set<DayOfWeek> days, LocalTime from, LocalTime to) {
+        boolean matches(LocalDateTime t) {
+            DayOfWeek day = t.getDayOfWeek();
+            LocalTime time = t.toLocalTime();
+            if (from.equals(to)) return days.contains(day);         // whole day
+            if (from.isBefore(to))                                    // same-day window
+                return days.contains(day) && !time.isBefore(from) && time.isBefore(to);
+            // Wraps past midnight: the tail belongs to the previous day's window
+            return (days.contains(day) && !time.isBefore(from))
+                || (days.contains(day.minus(1)) && time.isBefore(to));
+        }
+    }
+
+    /** When the active profile next changes, and to what. */
+    public record NextChange(Duration in, String profile) {}
+
+    // Look-ahead for the next change — windows repeat weekly
+    private static final int LOOKAHEAD_DAYS = 7;
+
+    private final ChunkLoader plugin;
+    private final List<Window> windows = new ArrayList<>();
+    private Profile defaults = new Profile(EngineSettings.defaults(), Map.of());
+    private volatile Profile current = defaults;
+    private BukkitTask task;
+
+    public ScheduleManager(ChunkLoader plugin) { this.plugin = plugin; }
+
+    public void start() {
+        reload();
+        // Windows have minute resolution; checking every second is plenty
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::evaluate, 20L, 20L);
+    }
+
+    public void stop() {
+        if (task != null) task.cancel();
+    }
+
+    /** Re-read the top-level engine keys and schedule profiles from config. */
+    public void reload() {
+        windows.clear();
+        try {
+            defaults = readProfile("default", plugin.getConfig(), new Profile(EngineSettings.defaults(), Map.of()));
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().log(Level.WARNING, "Invalid engine settings, using built-in defaults: " + e.getMessage());
+            defaults = new Profile(EngineSettings.defaults(), Map.of());
+        }
+
+        ConfigurationSection sched = plugin.getConfig().getConfigurationSection("schedule");
+        if (sched != null && sched.getBoolean("enabled", false) && sched.isConfigurationSection("profiles")) {
+            ConfigurationSection profiles = sched.getConfigurationSection("profiles");
+            for (String name : profiles.getKeys(false)) {
+                ConfigurationSection p = profiles.getConfigurationSection(name);
+                if (p == null) continue;
+                try {
+                    windows.add(new Window(
+                        readProfile(name, p, defaults),
+                        parseDays(p.getStringList("days")),
+                        LocalTime.parse(p.getString("from", "00:00")),
+                        LocalTime.parse(p.getString("to", "00:00"))
+                    ));
+                } catch (Exception e) {
+                    plugin.getLogger().log(Level.WARNING, "Invalid schedule profile " + name + ": " + e.getMessage());
+                }
+            }
+        }
+        current = resolve(LocalDateTime.now());
+        logProfile(current.global());
+    }
+
+    /** Global settings of the active profile (what /cl status shows). */
+    public EngineSettings current() { return current.global(); }
+
+    /** Settings the engine should use for {@code worldName} right now. */
+    public EngineSettings current(String worldName) { return current.forWorld(worldName); }
+
+    public boolean isEnabled() { return !windows.isEmpty(); }
+
+    /** @return the next profile switch within a week, or empty if it never changes */
+    public Optional<NextChange> nextChange() {
+        LocalDateTime now = LocalDateTime.now();
+        String active = resolve(now).global().profile();
+
+        // The active profile can only change where some window starts or ends,
+        // or at midnight (day filters) — check those instants, nothing else
+        TreeSet<LocalDateTime> boundaries = new TreeSet<>();
+        LocalDate today = now.toLocalDate();
+        for (int d = 0; d <= LOOKAHEAD_DAYS; d++) {
+            LocalDate day = today.plusDays(d);
+            boundaries.add(day.atStartOfDay());
+            for (Window w : windows) {
+                boundaries.add(day.atTime(w.from()));
+                boundaries.add(day.atTime(w.to()));
+            }
+        }
+
+        for (LocalDateTime t : boundaries.tailSet(now, false)) {
+            EngineSettings s = resolve(t).global();
+            if (!s.profile().equals(active)) return Optional.of(new NextChange(Duration.between(now, t), s.profile()));
+        }
+        return Optional.empty();
+    }
+
+    private void evaluate() {
+        Profile next = resolve(LocalDateTime.now());
+        Profile prev = current;
+        current = next;
+        if (!prev.global().profile().equals(next.global().profile())) logProfile(next.global());
+    }
+
+    private void logProfile(EngineSettings s) {
+        plugin.getLogger().info(String.format(
+            "[ChunkLoader] Engine profile: %s (%d concurrent, every %dt, budget %s%s)",
+            s.profile(), s.maxConcurrent(), s.intervalTicks(),
+            s.tickBudgetMs() > 0 ? s.tickBudgetMs() + "ms" : "unlimited",
+            s.paused() ? ", PAUSED" : ""
+        ));
+    }
+
+    /**
+     * @param sec  section holding this profile's keys (and optionally its own {@code worlds})
+     * @param base profile this one is layered on — built-in defaults for the top level,
+     *             the top-level profile (including its {@code worlds}) for schedule windows
+     */
+    private static Profile readProfile(String name, ConfigurationSection sec, Profile base) {
+        EngineSettings global = EngineSettings.read(name, sec, base.global());
+
+        // The base's per-world settings sit under this profile's keys
+        Map<String, EngineSettings> worlds = new HashMap<>();
+        for (Map.Entry<String, EngineSettings> e : base.worlds().entrySet())
+            worlds.put(e.getKey(), EngineSettings.read(name, sec, e.getValue()));
+
+        ConfigurationSection own = sec.getConfigurationSection("worlds");
+        if (own != null) {
+            for (String w : own.getKeys(false)) {
+                if (!own.isConfigurationSection(w)) continue;
+                worlds.put(w, EngineSettings.read(name, own.getConfigurationSection(w), worlds.getOrDefault(w, global)));
+            }
+        }
+        return new Profile(global, worlds);
+    }
+
+    private Profile resolve(LocalDateTime t) {
+        for (Window w : windows) if (w.matches(t)) return w.settings();
+        return defaults;
+    }
+
+    private static Set<DayOfWeek> parseDays(List<String> names) {
+        if (names.isEmpty()) return EnumSet.allOf(DayOfWeek.class);
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (String n : names) {
+            String key = n.trim().toUpperCase(Locale.ROOT);
+            DayOfWeek match = null;
+            // Accept MON / MONDAY
+            for (DayOfWeek d : DayOfWeek.values()) if (d.name().startsWith(key) && key.length() >= 3) match = d;
+            if (match == null) throw new IllegalArgumentException("unknown day " + n);
+            days.add(match);
+        }
+        return days;
+    }
+}
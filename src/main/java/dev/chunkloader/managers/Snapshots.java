@@ -0,0 +1,18 @@
+package dev.chunkloader.managers;
+
+import dev.chunkloader.api.JobSnapshot;
+import dev.chunkloader.data.GenerationJob;
+
+/** Builds the API's read-only {@link JobSnapshot}s from internal jobs. */
+final class Snapshots {
+
+    private Snapshots() {}
+
+    static JobSnapshot of(GenerationJob job) {
+        return new JobSnapshot(job.getId(), job.getWorldName(), job.getShape(),
+            job.getCenterX(), job.getCenterZ(), job.getRadius(),
+            job.getGenerated(), job.getTotal(), job.getStartedAt(),
+            job.getChunksPerSecond(), job.getEtaSeconds(),
+            job.isPaused(), job.isCancelled(), job.isFinished());
+    }
+}
@@ -1,9 +1,15 @@
 package dev.chunkloader.managers;
 
 import dev.chunkloader.ChunkLoader;
+import dev.chunkloader.api.JobSnapshot;
+import dev.chunkloader.api.Shape;
+import dev.chunkloader.api.events.*;
+import dev.chunkloader.data.ChunkSelection;
 import dev.chunkloader.data.GenerationJob;
-import dev.chunkloader.data.GenerationJob.Shape;
+import dev.chunkloader.data.ThroughputTimeline;
+import dev.chunkloader.data.WorldStats;
 import dev.chunkloader.tasks.GenerationTask;
+import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Bukkit;
 import org.bukkit.World;
@@ -14,7 +20,13 @@ import org.bukkit.scheduler.BukkitTask;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 public class TaskManager {
@@ -22,29 +34,72 @@ public class TaskManager {
     private final ChunkLoader plugin;
     private static final MiniMessage MM = MiniMessage.miniMessage();
 
-    // Active jobs
-    private final Map<UUID, GenerationJob>  jobs     = new ConcurrentHashMap<>();
+    // All jobs on record, indexed
+    private final JobRegistry               jobs     = new JobRegistry();
     // Job ID → running BukkitTask
     private final Map<UUID, BukkitTask>     tasks    = new ConcurrentHashMap<>();
+    // Job ID → throughput history of the running task
+    private final Map<UUID, ThroughputTimeline> timelines = new ConcurrentHashMap<>();
+    // History file writes — one thread keeps each file's appends in order, and
+    // unlike the Bukkit async scheduler it can still be drained in onDisable
+    private final ExecutorService historyIo = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "ChunkLoader-history");
+        t.setDaemon(true);
+        return t;
+    });
+    // Job ID → API completion future / progress callback (only for API submissions)
+    private final Map<UUID, CompletableFuture<JobSnapshot>>   completions = new ConcurrentHashMap<>();
+    private final Map<UUID, Consumer<GenerationJob>>          progressListeners = new ConcurrentHashMap<>();
+    // World name → request accounting shared by that world's jobs
+    private final Map<String, WorldStats> worldStats = new ConcurrentHashMap<>();
 
     private final File dataFile;
+    private final File historyDir;
     private BukkitTask progressBroadcastTask;
+    private BukkitTask worldTask;
+    private long worldTicks = 0;
+    private final ProgressDisplay progressDisplay;
+    private final ScheduleManager schedule;
 
     public TaskManager(ChunkLoader plugin) {
         this.plugin   = plugin;
         this.dataFile = new File(plugin.getDataFolder(), "jobs.yml");
+        this.historyDir = new File(plugin.getDataFolder(), "history");
+        this.progressDisplay = new ProgressDisplay(plugin, this);
+        this.schedule        = new ScheduleManager(plugin);
     }
 
     public void start() {
+        schedule.start(); // before loadJobs — resumed tasks read it on their first tick
         loadJobs();
+        // Paced chunk releases, loaded-chunk sampling and timed saves, per world
+        worldTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tickWorlds, 1L, 1L);
         startProgressBroadcast();
+        progressDisplay.start();
     }
 
     public void shutdown() {
         // Cancel all running tasks gracefully
         for (BukkitTask t : tasks.values()) t.cancel();
         tasks.clear();
+        if (worldTask != null) worldTask.cancel();
+        for (WorldStats ws : worldStats.values()) releasePendingUnloads(ws, Integer.MAX_VALUE);
+        for (UUID id : timelines.keySet()) closeTimeline(id);
+        historyIo.shutdown();
+        try {
+            if (!historyIo.awaitTermination(5, TimeUnit.SECONDS))
+                plugin.getLogger().warning("Timed out writing throughput history.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Jobs resume on next start, but this plugin instance's futures never will
+        for (CompletableFuture<JobSnapshot> f : completions.values())
+            f.completeExceptionally(new CancellationException("ChunkLoader disabled"));
+        completions.clear();
+        progressListeners.clear();
         if (progressBroadcastTask != null) progressBroadcastTask.cancel();
+        progressDisplay.stop();
+        schedule.stop();
         saveJobs();
     }
 
@@ -60,20 +115,32 @@ public class TaskManager {
      * @return the created job, or null if the world doesn't exist
      */
     public GenerationJob startJob(String worldName, int centerX, int centerZ, int radius, Shape shape) {
-        World world = Bukkit.getWorld(worldName);
-        if (world == null) return null;
-
         GenerationJob job = new GenerationJob(worldName, centerX, centerZ, radius, shape);
-        jobs.put(job.getId(), job);
+        return submitJob(job, null, null) ? job : null;
+    }
 
-        int intervalTicks = plugin.getConfig().getInt("task-interval-ticks", 1);
-        GenerationTask task = new GenerationTask(plugin, job, world);
-        BukkitTask bt = task.runTaskTimer(plugin, 0L, intervalTicks);
-        tasks.put(job.getId(), bt);
+    /**
+     * Register and schedule an already-built job. Main thread only.
+     * @param completion completed with the final snapshot when the job finishes, or
+     *                   exceptionally with a CancellationException; may be null
+     * @param onProgress called on every progress tick, may be null
+     * @return false if the job's world doesn't exist
+     */
+    public boolean submitJob(GenerationJob job, CompletableFuture<JobSnapshot> completion,
+                             Consumer<GenerationJob> onProgress) {
+        World world = Bukkit.getWorld(job.getWorldName());
+        if (world == null) return false;
+
+        jobs.add(job);
+        if (completion != null) completions.put(job.getId(), completion);
+        if (onProgress != null) progressListeners.put(job.getId(), onProgress);
+
+        scheduleTask(job, world, 0L);
 
         saveJobs();
         plugin.getLogger().info("[ChunkLoader] Started job " + job);
-        return job;
+        Bukkit.getPluginManager().callEvent(new GenerationJobStartEvent(Snapshots.of(job)));
+        return true;
     }
 
     public boolean pauseJob(UUID id) {
@@ -81,6 +148,7 @@ public class TaskManager {
         if (job == null || job.isFinished() || job.isCancelled()) return false;
         job.setPaused(!job.isPaused());
         saveJobs();
+        Bukkit.getPluginManager().callEvent(new GenerationJobPauseEvent(Snapshots.of(job)));
         return true;
     }
 
@@ -91,51 +159,173 @@ public class TaskManager {
         BukkitTask bt = tasks.remove(id);
         if (bt != null) bt.cancel();
         jobs.remove(id);
+        // Cancelled jobs leave the registry, so their history goes with them
+        ThroughputTimeline timeline = timelines.remove(id);
+        if (timeline != null) timeline.discard();
+        else historyIo.execute(historyFile(id)::delete);
         saveJobs();
         plugin.getLogger().info("[ChunkLoader] Cancelled job " + id);
+
+        // Settle the future before the event, so a failing listener can't strand callers
+        progressListeners.remove(id);
+        CompletableFuture<JobSnapshot> f = completions.remove(id);
+        if (f != null) f.completeExceptionally(new CancellationException("Job " + id + " was cancelled"));
+        Bukkit.getPluginManager().callEvent(new GenerationJobCancelEvent(Snapshots.of(job)));
         return true;
     }
 
     /** Called by GenerationTask when a job completes. */
     public void onJobFinished(GenerationJob job) {
         tasks.remove(job.getId());
+        jobs.markInactive(job.getId());
+        closeTimeline(job.getId());
         plugin.getLogger().info(String.format(
             "[ChunkLoader] ✔ Job finished! World: %s | %d chunks generated | Took: %ds",
             job.getWorldName(), job.getGenerated(), job.getElapsedSeconds()
         ));
 
         // Broadcast completion to all online staff
-        String msg = String.format(
+        Component msg = MM.deserialize(String.format(
             "<gradient:#00C8FF:#7B2FBE>ChunkLoader</gradient> <dark_gray>│ " +
             "<green>✔ Generation complete! <white>%s <gray>— <white>%d<gray> chunks in <white>%ds",
             job.getWorldName(), job.getGenerated(), job.getElapsedSeconds()
-        );
+        ));
         for (Player p : Bukkit.getOnlinePlayers()) {
             if (p.hasPermission("chunkloader.notify")) {
-                p.sendMessage(MM.deserialize(msg));
+                p.sendMessage(msg);
             }
         }
 
         saveJobs(); // keep finished job on disk for reference
+
+        progressListeners.remove(job.getId());
+        JobSnapshot snapshot = Snapshots.of(job);
+        CompletableFuture<JobSnapshot> f = completions.remove(job.getId());
+        if (f != null) f.complete(snapshot);
+        Bukkit.getPluginManager().callEvent(new GenerationJobFinishEvent(snapshot));
+    }
+
+    /** Called by GenerationTask every progress interval. */
+    public void onJobProgress(GenerationJob job) {
+        Consumer<GenerationJob> listener = progressListeners.get(job.getId());
+        if (listener == null) return;
+        try {
+            listener.accept(job);
+        } catch (Throwable t) {
+            // Someone else's bug — don't let it kill the generation task
+            plugin.getLogger().log(Level.WARNING, "Progress callback for job " + job.getId() + " threw", t);
+        }
+    }
+
+    private void scheduleTask(GenerationJob job, World world, long delayTicks) {
+        ThroughputTimeline timeline = null;
+        if (plugin.getConfig().getInt("history.sample-seconds", 5) > 0) {
+            timeline = new ThroughputTimeline(historyFile(job.getId()),
+                plugin.getConfig().getInt("history.buffer-size", 64), historyIo, plugin.getLogger());
+            timelines.put(job.getId(), timeline);
+        }
+
+        // First job in this world: whatever is loaded now belongs to players and
+        // spawn, so only chunks loaded on top of it count as save backlog
+        boolean firstInWorld = true;
+        for (GenerationJob other : jobs.getActive())
+            if (other != job && other.getWorldName().equals(job.getWorldName()) && tasks.containsKey(other.getId()))
+                firstInWorld = false;
+        if (firstInWorld) getWorldStats(world.getName()).resetBaseline(world.getChunkCount());
+
+        // Runs every tick; the task paces itself by the active schedule profile
+        GenerationTask task = new GenerationTask(plugin, job, world, timeline);
+        BukkitTask bt = task.runTaskTimer(plugin, delayTicks, 1L);
+        tasks.put(job.getId(), bt);
+    }
+
+    // ── Throughput history ────────────────────────────────────────────────────
+
+    public File historyFile(UUID id) { return new File(historyDir, id + ".bin"); }
+    public File historyCsvFile(UUID id) { return new File(historyDir, id + ".csv"); }
+
+    /**
+     * All recorded samples for a job, oldest first. Does file I/O —
+     * call it off the main thread.
+     */
+    public List<ThroughputTimeline.Sample> readHistory(UUID id) throws IOException {
+        ThroughputTimeline live = timelines.get(id);
+        return live != null ? live.readAll() : ThroughputTimeline.readFile(historyFile(id));
+    }
+
+    /** Queue the last samples for writing; readers keep using the timeline until they land. */
+    private void closeTimeline(UUID id) {
+        ThroughputTimeline timeline = timelines.get(id);
+        if (timeline == null) return;
+        timeline.flush().whenComplete((v, ex) -> timelines.remove(id, timeline));
     }
 
     // ── Accessors ─────────────────────────────────────────────────────────────
 
-    public Collection<GenerationJob> getActiveJobs() {
-        return jobs.values().stream()
-            .filter(j -> !j.isFinished() && !j.isCancelled())
-            .toList();
+    /** Live, read-only view — copy it if you need a stable snapshot. */
+    public Collection<GenerationJob> getActiveJobs() { return jobs.getActive(); }
+    public Collection<GenerationJob> getAllJobs()    { return jobs.getAll(); }
+    public GenerationJob getJob(UUID id)             { return jobs.get(id); }
+    public int getJobCount()                         { return jobs.activeCount(); }
+    public ScheduleManager getSchedule()             { return schedule; }
+
+    public WorldStats getWorldStats(String worldName) {
+        return worldStats.computeIfAbsent(worldName, WorldStats::new);
     }
 
-    public Collection<GenerationJob> getAllJobs() { return jobs.values(); }
-    public GenerationJob getJob(UUID id)          { return jobs.get(id); }
-    public int getJobCount()                      { return (int) getActiveJobs().stream().count(); }
+    // ── Paced unloads ─────────────────────────────────────────────────────────
 
-    public Optional<UUID> resolveId(String input) {
-        for (GenerationJob j : jobs.values()) {
-            String full = j.getId().toString();
-            if (full.equals(input) || full.startsWith(input)) return Optional.of(j.getId());
+    private void releasePendingUnloads() {
+        int perTick = plugin.getConfig().getInt("save-backlog.flush-per-tick", 16);
+        // Policy may have been switched off with chunks still queued — drain them
+        int max = perTick > 0 ? perTick : Integer.MAX_VALUE;
+        for (WorldStats ws : worldStats.values())
+            if (ws.getPendingUnloads() > 0) releasePendingUnloads(ws, max);
+    }
+
+    private void tickWorlds() {
+        releasePendingUnloads();
+
+        worldTicks++;
+        int sampleTicks = Math.max(1, plugin.getConfig().getInt("save-backlog.sample-ticks", 20));
+        int saveSeconds = plugin.getConfig().getInt("save-backlog.save-interval-seconds", 0);
+        boolean sample = worldTicks % sampleTicks == 0;
+        boolean save   = saveSeconds > 0 && worldTicks % (saveSeconds * 20L) == 0;
+        if (!sample && !save) return;
+
+        Set<String> busy = new HashSet<>();
+        for (GenerationJob job : jobs.getActive()) busy.add(job.getWorldName());
+        for (String name : busy) {
+            World world = Bukkit.getWorld(name);
+            if (world == null) continue;
+            WorldStats ws = getWorldStats(name);
+            if (save) {
+                // Small, regular saves of what generation dirtied, instead of
+                // leaving it all for the next autosave
+                long t = System.nanoTime();
+                world.save();
+                ws.onSaved(System.nanoTime() - t);
+            }
+            if (sample) ws.sampleLoaded(world.getChunkCount());
         }
+    }
+
+    /**
+     * Hand up to {@code max} generated chunks to Paper's unload queue. Doing it
+     * at a fixed rate per world means Paper saves them steadily instead of
+     * in bursts behind a big batch of completions.
+     */
+    private void releasePendingUnloads(WorldStats ws, int max) {
+        World world = Bukkit.getWorld(ws.getWorldName());
+        long[] c;
+        for (int i = 0; i < max && (c = ws.pollUnload()) != null; i++) {
+            if (world != null) world.unloadChunkRequest((int) c[0], (int) c[1]);
+        }
+    }
+
+    public Optional<UUID> resolveId(String input) {
+        Optional<UUID> byPrefix = jobs.findByPrefix(input);
+        if (byPrefix.isPresent()) return byPrefix;
         try { return Optional.of(UUID.fromString(input)); }
         catch (IllegalArgumentException e) { return Optional.empty(); }
     }
@@ -150,24 +340,28 @@ public class TaskManager {
             Collection<GenerationJob> active = getActiveJobs();
             if (active.isEmpty()) return;
 
+            // Render each line once per interval; every recipient shares the same Component
+            List<Component> lines = new ArrayList<>(active.size());
+            for (GenerationJob job : active) {
+                lines.add(MM.deserialize(String.format(
+                    "<dark_gray>◈ <gradient:#7B2FBE:#00C8FF>ChunkLoader</gradient> <dark_gray>│ " +
+                    "<white>%s <dark_gray>│ " +
+                    "<aqua>%.1f%% <dark_gray>(%d/%d) <dark_gray>│ " +
+                    "<gray>%.1f c/s <dark_gray>│ " +
+                    "<gray>ETA: <white>%s" +
+                    (job.isPaused() ? " <yellow>[PAUSED]" : ""),
+                    job.getWorldName(),
+                    job.getProgress(),
+                    job.getGenerated(),
+                    job.getTotal(),
+                    job.getChunksPerSecond(),
+                    job.formatEta()
+                )));
+            }
+
             for (Player p : Bukkit.getOnlinePlayers()) {
                 if (!p.hasPermission("chunkloader.notify")) continue;
-                for (GenerationJob job : active) {
-                    p.sendMessage(MM.deserialize(String.format(
-                        "<dark_gray>◈ <gradient:#7B2FBE:#00C8FF>ChunkLoader</gradient> <dark_gray>│ " +
-                        "<white>%s <dark_gray>│ " +
-                        "<aqua>%.1f%% <dark_gray>(%d/%d) <dark_gray>│ " +
-                        "<gray>%.1f c/s <dark_gray>│ " +
-                        "<gray>ETA: <white>%s" +
-                        (job.isPaused() ? " <yellow>[PAUSED]" : ""),
-                        job.getWorldName(),
-                        job.getProgress(),
-                        job.getGenerated(),
-                        job.getTotal(),
-                        job.getChunksPerSecond(),
-                        job.formatEta()
-                    )));
-                }
+                for (Component line : lines) p.sendMessage(line);
             }
         }, intervalSeconds * 20L, intervalSeconds * 20L);
     }
@@ -188,26 +382,26 @@ public class TaskManager {
                 int cz         = cfg.getInt(p + "center-z");
                 int radius     = cfg.getInt(p + "radius");
                 Shape shape    = Shape.valueOf(cfg.getString(p + "shape", "SQUARE"));
+                ChunkSelection selection = shape == Shape.AREA
+                    ? ChunkSelection.fromRows(cfg.getStringList(p + "rows")) : null;
                 long gen       = cfg.getLong(p + "generated");
                 long total     = cfg.getLong(p + "total");
                 long started   = cfg.getLong(p + "started");
                 boolean finished  = cfg.getBoolean(p + "finished");
                 boolean cancelled = cfg.getBoolean(p + "cancelled");
 
-                GenerationJob job = new GenerationJob(id, world, cx, cz, radius, shape, gen, total, started);
+                GenerationJob job = new GenerationJob(id, world, cx, cz, radius, shape, selection, gen, total, started);
                 job.setFinished(finished);
                 job.setCancelled(cancelled);
-                jobs.put(id, job);
+                jobs.add(job);
 
                 // Resume unfinished jobs automatically
                 if (!finished && !cancelled) {
                     World w = Bukkit.getWorld(world);
                     if (w != null) {
-                        int intervalTicks = plugin.getConfig().getInt("task-interval-ticks", 1);
-                        GenerationTask task = new GenerationTask(plugin, job, w);
-                        BukkitTask bt = task.runTaskTimer(plugin, 20L, intervalTicks); // 1s delay on resume
-                        tasks.put(id, bt);
+                        scheduleTask(job, w, 20L); // 1s delay on resume
                         plugin.getLogger().info("[ChunkLoader] Resumed job " + job);
+                        Bukkit.getPluginManager().callEvent(new GenerationJobStartEvent(Snapshots.of(job)));
                     }
                 }
             } catch (Exception e) {
@@ -218,13 +412,15 @@ public class TaskManager {
 
     private void saveJobs() {
         YamlConfiguration cfg = new YamlConfiguration();
-        for (GenerationJob job : jobs.values()) {
+        for (GenerationJob job : jobs.getAll()) {
             String p = "jobs." + job.getId() + ".";
             cfg.set(p + "world",     job.getWorldName());
             cfg.set(p + "center-x",  job.getCenterX());
             cfg.set(p + "center-z",  job.getCenterZ());
             cfg.set(p + "radius",    job.getRadius());
             cfg.set(p + "shape",     job.getShape().name());
+            if (job.getSelection() != null)
+                cfg.set(p + "rows",  job.getSelection().toRows());
             cfg.set(p + "generated", job.getGenerated());
             cfg.set(p + "total",     job.getTotal());
             cfg.set(p + "started",   job.getStartedAt());
@@ -0,0 +1,319 @@
+package dev.chunkloader.tasks;
+
+import dev.chunkloader.api.Shape;
+import dev.chunkloader.data.ChunkSelection;
+import dev.chunkloader.data.GenerationJob;
+import org.bukkit.World;
+import org.bukkit.WorldBorder;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Renders a PNG coverage map of a world straight from its region files.
+ *
+ * How it works:
+ *  - Only the 4 KiB location table at the start of each .mca file is read —
+ *    a non-zero entry means the chunk exists on disk. No chunk is loaded.
+ *  - The map is built one row of regions (32 chunk rows) at a time and
+ *    streamed into the PNG encoder, so memory is bounded by the map width
+ *    rather than its area.
+ *  - The extent is clamped to the world border and to map.max-pixels per
+ *    side (around the border centre), so a stray far-out region file can't
+ *    blow up the row buffers.
+ *  - Active job shapes are drawn on top as outlines.
+ *
+ * Construct on the main thread (it snapshots the jobs), then call
+ * {@link #render(File)} on a background thread.
+ */
+public class CoverageMapRenderer {
+
+    /** What a render produced. */
+    public record Result(File file, int width, int height, long generated, long regions, boolean clipped) {}
+
+    private static final int GENERATED = 0x3CB371;
+    private static final int MISSING   = 0x202020;
+    private static final int PENDING   = 0x2A3A5A; // missing, but inside an active job
+    private static final int OUTLINE   = 0x00C8FF;
+
+    /** Minimal, thread-safe view of a job's shape. */
+    private record JobShape(Shape shape, int centerX, int centerZ, int radius, ChunkSelection selection) {
+        boolean contains(int x, int z) {
+            int dx = x - centerX, dz = z - centerZ;
+            return switch (shape) {
+                case SQUARE -> Math.abs(dx) <= radius && Math.abs(dz) <= radius;
+                case CIRCLE -> (long) dx * dx + (long) dz * dz <= (long) radius * radius;
+                case AREA   -> selection.contains(x, z);
+            };
+        }
+    }
+
+    private final File regionFolder;
+    private final int scale; // chunks per pixel edge, power of two ≤ 32
+    private final List<JobShape> shapes = new ArrayList<>();
+
+    // Hard bounds in region coords: world border ∩ max-pixels window
+    private final int boundMinRx, boundMinRz, boundMaxRx, boundMaxRz;
+
+    /**
+     * @param scale     chunks per pixel: 1 = one pixel per chunk, 32 = one pixel per region
+     * @param maxPixels max image width/height, the extent is clipped around the border centre
+     */
+    public CoverageMapRenderer(World world, int scale, int maxPixels, Collection<GenerationJob> activeJobs) {
+        if (scale < 1 || scale > 32 || Integer.bitCount(scale) != 1)
+            throw new IllegalArgumentException("Scale must be 1, 2, 4, 8, 16 or 32");
+        this.regionFolder = regionFolder(world);
+        this.scale        = scale;
+
+        // Border in blocks → regions (512 blocks each)
+        WorldBorder border = world.getWorldBorder();
+        double half = border.getSize() / 2;
+        double bx = border.getCenter().getX(), bz = border.getCenter().getZ();
+        int centerRx = (int) Math.floor(bx / 512), centerRz = (int) Math.floor(bz / 512);
+        // Whole regions that fit in maxPixels at this scale (32 / scale px each),
+        // as a window of exactly that many regions around the centre
+        long span = Math.max(1, (long) Math.max(1, maxPixels) * scale / 32);
+        long lowX = centerRx - (span - 1) / 2, lowZ = centerRz - (span - 1) / 2;
+        this.boundMinRx = (int) Math.max((long) Math.floor((bx - half) / 512), lowX);
+        this.boundMaxRx = (int) Math.min((long) Math.floor((bx + half) / 512), lowX + span - 1);
+        this.boundMinRz = (int) Math.max((long) Math.floor((bz - half) / 512), lowZ);
+        this.boundMaxRz = (int) Math.min((long) Math.floor((bz + half) / 512), lowZ + span - 1);
+
+        for (GenerationJob j : activeJobs) {
+            if (!j.getWorldName().equals(world.getName())) continue;
+            shapes.add(new JobShape(j.getShape(), j.getCenterX(), j.getCenterZ(), j.getRadius(), j.getSelection()));
+        }
+    }
+
+    public static File regionFolder(World world) {
+        return switch (world.getEnvironment()) {
+            case NETHER  -> new File(world.getWorldFolder(), "DIM-1/region");
+            case THE_END -> new File(world.getWorldFolder(), "DIM1/region");
+            default      -> new File(world.getWorldFolder(), "region");
+        };
+    }
+
+    public Result render(File out) throws IOException {
+        // ── Extent: every region on disk plus every job shape ────────────────
+        int minRx = Integer.MAX_VALUE, minRz = Integer.MAX_VALUE;
+        int maxRx = Integer.MIN_VALUE, maxRz = Integer.MIN_VALUE;
+        if (regionFolder.isDirectory()) {
+            // Streamed listing — a huge world has hundreds of thousands of files
+            try (DirectoryStream<Path> dir = Files.newDirectoryStream(regionFolder.toPath(), "r.*.*.mca")) {
+                for (Path p : dir) {
+                    String[] parts = p.getFileName().toString().split("\\.");
+                    try {
+                        int rx = Integer.parseInt(parts[1]), rz = Integer.parseInt(parts[2]);
+                        minRx = Math.min(minRx, rx); maxRx = Math.max(maxRx, rx);
+                        minRz = Math.min(minRz, rz); maxRz = Math.max(maxRz, rz);
+                    } catch (NumberFormatException ignored) {}
+                }
+            }
+        }
+        for (JobShape s : shapes) {
+            int x1, z1, x2, z2;
+            if (s.selection() != null) {
+                x1 = s.selection().getMinX(); z1 = s.selection().getMinZ();
+                x2 = s.selection().getMaxX(); z2 = s.selection().getMaxZ();
+            } else {
+                x1 = s.centerX() - s.radius(); z1 = s.centerZ() - s.radius();
+                x2 = s.centerX() + s.radius(); z2 = s.centerZ() + s.radius();
+            }
+            minRx = Math.min(minRx, x1 >> 5); maxRx = Math.max(maxRx, x2 >> 5);
+            minRz = Math.min(minRz, z1 >> 5); maxRz = Math.max(maxRz, z2 >> 5);
+        }
+        if (minRx > maxRx) throw new IOException("No region files found in " + regionFolder);
+
+        boolean clipped = minRx < boundMinRx || maxRx > boundMaxRx || minRz < boundMinRz || maxRz > boundMaxRz;
+        minRx = Math.max(minRx, boundMinRx); maxRx = Math.min(maxRx, boundMaxRx);
+        minRz = Math.max(minRz, boundMinRz); maxRz = Math.min(maxRz, boundMaxRz);
+        if (minRx > maxRx || minRz > maxRz) throw new IOException("Nothing to render inside the world border");
+
+        int regionsWide  = maxRx - minRx + 1;
+        int chunksWide   = regionsWide * 32;
+        int pixelsPerRegion = 32 / scale;
+        int width  = regionsWide * pixelsPerRegion;
+        int height = (maxRz - minRz + 1) * pixelsPerRegion;
+        int originX = minRx * 32;
+
+        long generated = 0, regions = 0;
+        out.getParentFile().mkdirs();
+
+        // Don't leave a truncated PNG behind if anything goes wrong
+        try (PngWriter png = new PngWriter(out, width, height)) {
+            // One band = one row of regions = 32 rows of chunks
+            boolean[] band = new boolean[chunksWide * 32];
+            byte[] locations = new byte[4096];
+            byte[] scanline = new byte[width * 3];
+
+            for (int rz = minRz; rz <= maxRz; rz++) {
+                Arrays.fill(band, false);
+                for (int rx = minRx; rx <= maxRx; rx++) {
+                    if (!readLocations(new File(regionFolder, "r." + rx + "." + rz + ".mca"), locations)) continue;
+                    regions++;
+                    int base = (rx - minRx) * 32;
+                    for (int i = 0; i < 1024; i++) {
+                        int o = i * 4;
+                        if ((locations[o] | locations[o + 1] | locations[o + 2] | locations[o + 3]) == 0) continue;
+                        band[(i >> 5) * chunksWide + base + (i & 31)] = true;
+                        generated++;
+                    }
+                }
+
+                for (int py = 0; py < pixelsPerRegion; py++) {
+                    int cz = rz * 32 + py * scale;
+                    for (int px = 0; px < width; px++) {
+                        int cx = originX + px * scale;
+                        int rgb = pixel(band, chunksWide, py * scale, px * scale, cx, cz);
+                        scanline[px * 3]     = (byte) (rgb >> 16);
+                        scanline[px * 3 + 1] = (byte) (rgb >> 8);
+                        scanline[px * 3 + 2] = (byte) rgb;
+                    }
+                    png.writeRow(scanline);
+                }
+            }
+        } catch (Throwable t) {
+            out.delete();
+            throw t;
+        }
+        return new Result(out, width, height, generated, regions, clipped);
+    }
+
+    /** Colour for the {@code scale × scale} block of chunks whose top-left is (cx, cz). */
+    private int pixel(boolean[] band, int chunksWide, int row, int col, int cx, int cz) {
+        boolean inJob = false;
+        for (JobShape s : shapes) {
+            if (!s.contains(cx, cz)) continue;
+            if (!s.contains(cx - scale, cz) || !s.contains(cx + scale, cz)
+                || !s.contains(cx, cz - scale) || !s.contains(cx, cz + scale)) return OUTLINE;
+            inJob = true;
+        }
+
+        int done = 0;
+        for (int dz = 0; dz < scale; dz++)
+            for (int dx = 0; dx < scale; dx++)
+                if (band[(row + dz) * chunksWide + col + dx]) done++;
+
+        int empty = inJob ? PENDING : MISSING;
+        return blend(empty, GENERATED, (double) done / (scale * scale));
+    }
+
+    private static int blend(int from, int to, double t) {
+        int r = (int) Math.round(((from >> 16) & 0xFF) * (1 - t) + ((to >> 16) & 0xFF) * t);
+        int g = (int) Math.round(((from >> 8) & 0xFF) * (1 - t) + ((to >> 8) & 0xFF) * t);
+        int b = (int) Math.round((from & 0xFF) * (1 - t) + (to & 0xFF) * t);
+        return (r << 16) | (g << 8) | b;
+    }
+
+    /** Read a region's chunk location table. @return false if the region doesn't exist */
+    private static boolean readLocations(File mca, byte[] into) throws IOException {
+        if (!mca.isFile() || mca.length() < 8192) return false;
+        try (RandomAccessFile raf = new RandomAccessFile(mca, "r")) {
+            raf.readFully(into);
+        }
+        return true;
+    }
+
+    /**
+     * Bare-bones streaming PNG encoder (8-bit RGB, no filtering). Rows are
+     * deflated and emitted as IDAT chunks as they arrive.
+     */
+    private static class PngWriter implements Closeable {
+
+        private final DataOutputStream file;
+        private final DeflaterOutputStream deflater;
+        private final Deflater def = new Deflater(Deflater.BEST_SPEED);
+
+        PngWriter(File out, int width, int height) throws IOException {
+            this.file = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(out)));
+            try {
+                file.write(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+
+                ByteArrayOutputStream ihdr = new ByteArrayOutputStream();
+                DataOutputStream d = new DataOutputStream(ihdr);
+                d.writeInt(width);
+                d.writeInt(height);
+                d.write(new byte[]{8, 2, 0, 0, 0}); // 8-bit, truecolour, deflate, no filter, no interlace
+                writeChunk("IHDR", ihdr.toByteArray(), ihdr.size());
+            } catch (IOException e) {
+                file.close();
+                def.end();
+                throw e;
+            }
+
+            this.deflater = new DeflaterOutputStream(new IdatStream(), def, 64 * 1024);
+        }
+
+        void writeRow(byte[] rgb) throws IOException {
+            deflater.write(0); // filter type: none
+            deflater.write(rgb);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                deflater.close(); // flushes the last IDAT
+                writeChunk("IEND", new byte[0], 0);
+            } finally {
+                try {
+                    file.close();
+                } finally {
+                    def.end();
+                }
+            }
+        }
+
+        private void writeChunk(String type, byte[] data, int len) throws IOException {
+            byte[] t = type.getBytes(StandardCharsets.US_ASCII);
+            CRC32 crc = new CRC32();
+            crc.update(t);
+            crc.update(data, 0, len);
+            file.writeInt(len);
+            file.write(t);
+            file.write(data, 0, len);
+            file.writeInt((int) crc.getValue());
+        }
+
+        /** Buffers deflated bytes and emits them as IDAT chunks. */
+        private class IdatStream extends OutputStream {
+            private final byte[] buf = new byte[64 * 1024];
+            private int len = 0;
+
+            @Override
+            public void write(int b) throws IOException {
+                if (len == buf.length) flush();
+                buf[len++] = (byte) b;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int n) throws IOException {
+                while (n > 0) {
+                    if (len == buf.length) flush();
+                    int k = Math.min(n, buf.length - len);
+                    System.arraycopy(b, off, buf, len, k);
+                    len += k; off += k; n -= k;
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (len == 0) return;
+                writeChunk("IDAT", buf, len);
+                len = 0;
+            }
+
+            @Override
+            public void close() throws IOException { flush(); }
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package dev.chunkloader.tasks;
 
 import dev.chunkloader.ChunkLoader;
+import dev.chunkloader.api.Shape;
+import dev.chunkloader.data.ChunkSelection;
+import dev.chunkloader.data.EngineSettings;
 import dev.chunkloader.data.GenerationJob;
+import dev.chunkloader.data.ThroughputTimeline;
+import dev.chunkloader.data.WorldStats;
+import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.World;
 import org.bukkit.scheduler.BukkitRunnable;
@@ -14,13 +20,23 @@ import java.util.concurrent.atomic.AtomicInteger;
  * The generation engine.
  *
  * How it works (Chunky-style):
- *  - Each tick we fire N async chunk generation requests in parallel.
+ *  - Every task-interval-ticks we fire N async chunk generation requests in parallel.
  *  - Paper/Purpur's getChunkAtAsync() generates the chunk on a worker thread
  *    and writes it to disk — the main thread is never blocked.
  *  - We use a semaphore-style counter so we never flood the queue with
  *    more in-flight requests than the configured concurrency limit.
  *  - Spiral iteration order (centre → outward) so the centre of the
  *    generation area is done first, just like Chunky.
+ *  - Concurrency, interval, per-tick time budget and unload policy come
+ *    from the active schedule profile for this world and are re-read every
+ *    tick, so profile switches apply to running jobs immediately.
+ *  - The concurrency limit is per world: all jobs in a world share its
+ *    in-flight slots, so an expensive overworld can't starve a cheap End.
+ *  - Save-backlog pacing: dispatch slows down as the world's loaded-chunk
+ *    count climbs above what was loaded when generation started (or as the
+ *    chunks we hold climb, whichever is higher). Finished chunks are released
+ *    to Paper at a fixed rate per world, and worlds can optionally be saved
+ *    on a timer (see TaskManager) instead of in autosave bursts.
  */
 public class GenerationTask extends BukkitRunnable {
 
@@ -29,34 +45,86 @@ public class GenerationTask extends BukkitRunnable {
     private final World world;
     private final Iterator<long[]> chunkIterator;
 
-    // How many async chunk requests are currently in-flight
+    // How many of this job's async chunk requests are currently in-flight
     private final AtomicInteger inFlight = new AtomicInteger(0);
+    // Shared by every job in this world
+    private final WorldStats worldStats;
 
-    // Max simultaneous in-flight requests (configurable)
-    private final int maxConcurrent;
+    // Ticks since the last dispatch round (the task itself runs every tick)
+    private int ticksSinceDispatch = Integer.MAX_VALUE / 2;
+
+    // Save-backlog pacing (chunks held by us in this world, 0 = disabled)
+    private final int backlogSoftLimit;
+    private final int backlogHardLimit;
+    // Paced releases are enabled at all (save-backlog.flush-per-tick > 0)
+    private final boolean pacingEnabled;
+
+    // Current world unload policy is PACED (refreshed every tick)
+    private boolean pacedUnloads;
+
+    // Throughput history (null when disabled)
+    private final ThroughputTimeline timeline;
+    private final long sampleIntervalMs;
+    private long lastSampleAt;
+    private long generatedAtLastSample;
+    private long skippedSinceSample = 0;
+    private long dispatchedSinceSample = 0;
 
     // How often (ticks) we log progress to console
     private static final int PROGRESS_INTERVAL_TICKS = 40; // every 2 seconds
     private int ticksSinceProgress = 0;
 
-    public GenerationTask(ChunkLoader plugin, GenerationJob job, World world) {
+    public GenerationTask(ChunkLoader plugin, GenerationJob job, World world, ThroughputTimeline timeline) {
         this.plugin        = plugin;
         this.job           = job;
         this.world         = world;
-        this.maxConcurrent = plugin.getConfig().getInt("max-concurrent-chunks", 8);
-        this.chunkIterator = new SpiralIterator(job.getCenterX(), job.getCenterZ(), job.getRadius());
+        this.timeline      = timeline;
+        this.backlogSoftLimit = plugin.getConfig().getInt("save-backlog.soft-limit", 256);
+        this.backlogHardLimit = plugin.getConfig().getInt("save-backlog.hard-limit", 1024);
+        this.pacingEnabled    = plugin.getConfig().getInt("save-backlog.flush-per-tick", 16) > 0;
+        this.worldStats    = plugin.getTaskManager().getWorldStats(world.getName());
+
+        EngineSettings settings = plugin.getTaskManager().getSchedule().current(world.getName());
+        this.pacedUnloads  = settings.unloadPolicy() == EngineSettings.UnloadPolicy.PACED && pacingEnabled;
+        if (job.getSelection() != null)
+            this.chunkIterator = job.getSelection().iterator();
+        else if (settings.iterationOrder() == EngineSettings.IterationOrder.ROWS)
+            this.chunkIterator = rows(job).iterator();
+        else
+            this.chunkIterator = new SpiralIterator(job.getCenterX(), job.getCenterZ(), job.getRadius());
+        this.sampleIntervalMs = plugin.getConfig().getInt("history.sample-seconds", 5) * 1000L;
+        this.lastSampleAt     = System.currentTimeMillis();
+        this.generatedAtLastSample = job.getGenerated();
     }
 
     @Override
     public void run() {
-        if (job.isPaused()) return;
         if (job.isCancelled()) {
             cancel();
             return;
         }
 
-        // Fire as many new requests as we have slots for
-        while (inFlight.get() < maxConcurrent && chunkIterator.hasNext()) {
+        EngineSettings settings = plugin.getTaskManager().getSchedule().current(world.getName());
+        pacedUnloads = settings.unloadPolicy() == EngineSettings.UnloadPolicy.PACED && pacingEnabled;
+        job.setHeld(settings.paused());
+        if (job.isPaused() || settings.paused()) {
+            // Don't let paused time drag down the next throughput sample
+            lastSampleAt = System.currentTimeMillis();
+            return;
+        }
+        ticksSinceProgress++;
+        if (++ticksSinceDispatch < settings.intervalTicks()) return;
+        ticksSinceDispatch = 0;
+
+        // Fire as many new requests as this job's share of the world's slots
+        // allows, within the tick budget
+        int limit = effectiveConcurrency(settings.maxConcurrent());
+        int share = fairShare(limit);
+        long budgetNs = (long) (settings.tickBudgetMs() * 1_000_000);
+        long started  = System.nanoTime();
+        while (inFlight.get() < share && worldStats.getInFlight() < limit && chunkIterator.hasNext()) {
+            if (budgetNs > 0 && System.nanoTime() - started > budgetNs) break;
+
             long[] coord = chunkIterator.next();
             int cx = (int) coord[0];
             int cz = (int) coord[1];
@@ -64,22 +132,31 @@ public class GenerationTask extends BukkitRunnable {
             // Skip already-generated chunks for speed (no regeneration needed)
             if (world.isChunkGenerated(cx, cz)) {
                 job.incrementGenerated();
+                skippedSinceSample++;
                 continue;
             }
 
             inFlight.incrementAndGet();
+            worldStats.onDispatch();
+            dispatchedSinceSample++;
+            long requestedAt = System.nanoTime();
 
             // Paper async chunk generation — does NOT block the main thread
             world.getChunkAtAsync(cx, cz, true).thenAccept(chunk -> {
-                // Chunk is generated and saved to disk
-                // Unload it immediately to keep memory usage low
-                // (we're pre-generating, not keeping it loaded)
-                world.unloadChunkRequest(cx, cz);
+                // Chunk is generated — get rid of it to keep memory usage low
+                // (we're pre-generating, not keeping it loaded). Either queue it
+                // on the world's paced release queue, or hand it straight to Paper.
+                // The world queue outlives this task, so late completions after
+                // a cancel are still released.
+                if (pacedUnloads) worldStats.queueUnload(cx, cz);
+                else world.unloadChunkRequest(cx, cz);
                 job.incrementGenerated();
                 inFlight.decrementAndGet();
+                worldStats.onComplete(System.nanoTime() - requestedAt);
             }).exceptionally(ex -> {
                 plugin.getLogger().warning("Failed to generate chunk " + cx + "," + cz + ": " + ex.getMessage());
                 inFlight.decrementAndGet();
+                worldStats.onFailed();
                 return null;
             });
         }
@@ -92,14 +169,77 @@ public class GenerationTask extends BukkitRunnable {
             return;
         }
 
+        recordSample();
+
         // Progress logging
-        ticksSinceProgress++;
         if (ticksSinceProgress >= PROGRESS_INTERVAL_TICKS) {
             ticksSinceProgress = 0;
             logProgress();
+            plugin.getTaskManager().onJobProgress(job);
         }
     }
 
+    /**
+     * Concurrency limit for this tick, scaled down linearly between the soft
+     * and hard backlog limits. The backlog is how many chunks the world has
+     * loaded above its baseline (sampled — player and spawn chunks loaded
+     * before the job started don't throttle us), or the chunks we hold in
+     * flight and queued, if that is higher. At or above the hard limit nothing
+     * new is dispatched until Paper unloads and saves catch up.
+     */
+    private int effectiveConcurrency(int maxConcurrent) {
+        if (backlogHardLimit <= 0) return maxConcurrent;
+
+        // The sample lags by up to save-backlog.sample-ticks, so our own
+        // counters cover the requests fired since
+        int backlog = Math.max(worldStats.getLoadedAboveBaseline(),
+                               worldStats.getInFlight() + worldStats.getPendingUnloads());
+
+        int soft = Math.min(backlogSoftLimit, backlogHardLimit);
+        if (backlog <= soft) return maxConcurrent;
+        if (backlog >= backlogHardLimit) return 0;
+
+        double headroom = (double) (backlogHardLimit - backlog) / (backlogHardLimit - soft);
+        return Math.max(1, (int) (maxConcurrent * headroom));
+    }
+
+    /**
+     * This job's slice of the world limit: split evenly across the world's
+     * running jobs, so whichever task ticks first can't take every free slot.
+     */
+    private int fairShare(int limit) {
+        int running = 0;
+        for (GenerationJob other : plugin.getTaskManager().getActiveJobs())
+            if (!other.isPaused() && other.getWorldName().equals(job.getWorldName())) running++;
+        return running <= 1 ? limit : (limit + running - 1) / running;
+    }
+
+    private void recordSample() {
+        if (timeline == null) return;
+        long now = System.currentTimeMillis();
+        long elapsed = now - lastSampleAt;
+        if (elapsed < sampleIntervalMs) return;
+
+        long generated = job.getGenerated();
+        long processed = skippedSinceSample + dispatchedSinceSample;
+        Runtime rt = Runtime.getRuntime();
+        ThroughputTimeline.Sample sample = new ThroughputTimeline.Sample(
+            now,
+            (generated - generatedAtLastSample) * 1000f / elapsed,
+            inFlight.get(),
+            (float) Bukkit.getAverageTickTime(),
+            (int) ((rt.totalMemory() - rt.freeMemory()) >> 20),
+            processed > 0 ? (float) skippedSinceSample / processed : 0f
+        );
+
+        lastSampleAt = now;
+        generatedAtLastSample = generated;
+        skippedSinceSample = 0;
+        dispatchedSinceSample = 0;
+
+        timeline.record(sample);
+    }
+
     private void logProgress() {
         long done  = job.getGenerated();
         long total = job.getTotal();
@@ -109,8 +249,10 @@ public class GenerationTask extends BukkitRunnable {
         long eta     = cps > 0 ? (long) ((total - done) / cps) : -1;
 
         plugin.getLogger().info(String.format(
-            "[ChunkLoader] %s | %d/%d (%.1f%%) | %.1f c/s | ETA: %s",
-            world.getName(), done, total, pct, cps, formatEta(eta)
+            "[ChunkLoader] %s | %d/%d (%.1f%%) | %.1f c/s | ETA: %s | world in-flight: %d, queued unloads: %d, loaded: +%d, latency: %.0fms, last save: %.0fms",
+            world.getName(), done, total, pct, cps, formatEta(eta),
+            worldStats.getInFlight(), worldStats.getPendingUnloads(), worldStats.getLoadedAboveBaseline(),
+            worldStats.getAvgLatencyMs(), worldStats.getLastSaveMs()
         ));
     }
 
@@ -121,6 +263,19 @@ public class GenerationTask extends BukkitRunnable {
         return (seconds / 3600) + "h " + ((seconds % 3600) / 60) + "m";
     }
 
+    /** The job's shape as rows, for {@link EngineSettings.IterationOrder#ROWS}. */
+    private static ChunkSelection rows(GenerationJob job) {
+        int r = job.getRadius();
+        ChunkSelection.Builder b = new ChunkSelection.Builder();
+        for (int dz = -r; dz <= r; dz++) {
+            int half = job.getShape() == Shape.CIRCLE
+                ? (int) Math.floor(Math.sqrt((double) r * r - (double) dz * dz))
+                : r;
+            b.addRect(job.getCenterX() - half, job.getCenterZ() + dz, job.getCenterX() + half, job.getCenterZ() + dz);
+        }
+        return b.build();
+    }
+
     /**
      * Generates chunk coordinates in a square spiral from centre outward.
      * This matches Chunky's default shape and ensures the inner area is